@@ -0,0 +1,174 @@
+package com.sprint.common.converter.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 编译期读写方法选择
+ * <p>
+ * 规则同运行时 BeanIntrospector：公共非静态的 getX()/isX()（boolean）为读方法，返回void的 setX(x) 为写方法；
+ * isX 优先于 getX，同类读方法取返回类型最具体者；写方法参数须可赋值给读方法类型，取参数类型最具体者，
+ * 子类收窄读方法返回类型时沿用父类中已配对的写方法。属性索引与转换器生成共用。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class BeanAccessors {
+
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    private final Elements elements;
+    private final Types types;
+
+    BeanAccessors(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * 按属性名收集候选读写方法，含继承的方法
+     *
+     * @param type 类型
+     * @return 属性名 -&gt; 候选读写方法，按名称排序
+     */
+    Map<String, Candidates> collect(TypeElement type) {
+        Map<String, Candidates> methods = new TreeMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            int parameterCount = method.getParameters().size();
+            TypeKind returnKind = method.getReturnType().getKind();
+            if (parameterCount == 0 && name.startsWith(GET_PREFIX) && name.length() > GET_PREFIX.length()
+                    && returnKind != TypeKind.VOID) {
+                candidates(methods, name.substring(GET_PREFIX.length())).addRead(method);
+            } else if (parameterCount == 0 && name.startsWith(IS_PREFIX) && name.length() > IS_PREFIX.length()
+                    && returnKind == TypeKind.BOOLEAN) {
+                candidates(methods, name.substring(IS_PREFIX.length())).addRead(method);
+            } else if (parameterCount == 1 && name.startsWith(SET_PREFIX) && name.length() > SET_PREFIX.length()
+                    && returnKind == TypeKind.VOID) {
+                candidates(methods, name.substring(SET_PREFIX.length())).writes.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private Candidates candidates(Map<String, Candidates> methods, String name) {
+        return methods.computeIfAbsent(decapitalize(name), key -> new Candidates());
+    }
+
+    TypeMirror erasure(TypeMirror type) {
+        return types.erasure(type);
+    }
+
+    TypeMirror parameterType(ExecutableElement method) {
+        return erasure(method.getParameters().get(0).asType());
+    }
+
+    /* 同 Class#isAssignableFrom，基础类型不做拓宽 */
+    private boolean isAssignable(TypeMirror from, TypeMirror to) {
+        if (from.getKind().isPrimitive() || to.getKind().isPrimitive()) {
+            return types.isSameType(from, to);
+        }
+        return types.isAssignable(from, to);
+    }
+
+    /* 同 java.beans.Introspector#decapitalize */
+    static String decapitalize(String name) {
+        if (name == null || name.isEmpty()) {
+            return name;
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+
+    /**
+     * 同名属性的候选读写方法
+     */
+    final class Candidates {
+
+        private ExecutableElement read;
+        private final List<ExecutableElement> writes = new ArrayList<>(1);
+
+        /* isX 优先于 getX，同类读方法取返回类型最具体者 */
+        void addRead(ExecutableElement method) {
+            if (read == null) {
+                read = method;
+                return;
+            }
+            boolean currentIs = read.getSimpleName().toString().startsWith(IS_PREFIX);
+            boolean methodIs = method.getSimpleName().toString().startsWith(IS_PREFIX);
+            if (methodIs != currentIs) {
+                if (methodIs) {
+                    read = method;
+                }
+            } else if (isAssignable(erasure(method.getReturnType()), erasure(read.getReturnType()))) {
+                read = method;
+            }
+        }
+
+        ExecutableElement read() {
+            return read;
+        }
+
+        /* 写方法参数须可赋值给读方法类型，取参数类型最具体者；读写不兼容时只读 */
+        ExecutableElement write() {
+            TypeMirror type = read == null ? null : erasure(read.getReturnType());
+            ExecutableElement write = null;
+            for (ExecutableElement method : writes) {
+                TypeMirror parameterType = parameterType(method);
+                if (type == null) {
+                    write = method;
+                    type = parameterType;
+                } else if (isAssignable(parameterType, type)
+                        && (write == null || isAssignable(parameterType, parameterType(write)))) {
+                    write = method;
+                }
+            }
+            if (write == null && read != null) {
+                for (ExecutableElement method : writes) {
+                    TypeMirror parameterType = parameterType(method);
+                    if (pairedInDeclaringClass(method, parameterType)
+                            && (write == null || isAssignable(parameterType, parameterType(write)))) {
+                        write = method;
+                    }
+                }
+            }
+            return write;
+        }
+
+        private boolean pairedInDeclaringClass(ExecutableElement write, TypeMirror parameterType) {
+            TypeElement declaring = (TypeElement) write.getEnclosingElement();
+            ExecutableElement declaredRead = null;
+            for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(declaring))) {
+                if (method.getSimpleName().contentEquals(read.getSimpleName()) && method.getParameters().isEmpty()
+                        && (declaredRead == null || isAssignable(erasure(method.getReturnType()),
+                        erasure(declaredRead.getReturnType())))) {
+                    declaredRead = method;
+                }
+            }
+            return declaredRead != null && isAssignable(parameterType, erasure(declaredRead.getReturnType()));
+        }
+    }
+}
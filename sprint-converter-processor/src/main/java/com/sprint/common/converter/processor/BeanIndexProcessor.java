@@ -0,0 +1,245 @@
+package com.sprint.common.converter.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 属性索引生成器
+ * <p>
+ * 为标注 IndexedBean 的类型按运行时 BeanIntrospector 的规则（见 BeanAccessors）计算属性，写入 {@value #LOCATION}，
+ * 格式同运行时 BeanIndex。增量编译时保留已有索引中本次未处理类型的条目。
+ * 本jar在编译classpath上时自动启用，也可通过 -processor 指定。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+@SupportedAnnotationTypes(BeanIndexProcessor.INDEXED_BEAN)
+public class BeanIndexProcessor extends AbstractProcessor {
+
+    static final String INDEXED_BEAN = "com.sprint.common.converter.conversion.nested.bean.annotation.IndexedBean";
+
+    /* 与运行时 BeanIndex 一致 */
+    static final String LOCATION = "META-INF/sprint-converter/bean.index";
+    static final String HEADER = "# sprint-converter bean index v1";
+    static final String NONE = "-";
+    static final char SEPARATOR = '\t';
+
+    /* 忽略转化的字段 */
+    private static final String IGNORE_CLASS = "class";
+
+    private final Map<String, List<String>> entries = new TreeMap<>();
+
+    private BeanAccessors accessors;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.accessors = new BeanAccessors(processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement indexedBean = processingEnv.getElementUtils().getTypeElement(INDEXED_BEAN);
+        if (indexedBean == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(indexedBean)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "@IndexedBean only supports classes", element);
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            entries.put(binaryName(type), index(type));
+        }
+        if (roundEnv.processingOver() && !entries.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private List<String> index(TypeElement type) {
+        String className = binaryName(type);
+        Map<String, BeanAccessors.Candidates> methods = accessors.collect(type);
+
+        Map<String, String> publicFields = new HashMap<>();
+        collectPublicFields(type, publicFields);
+        Map<String, String> declaredFields = new HashMap<>();
+        Set<String> fieldNames = new LinkedHashSet<>();
+        for (TypeElement clazz = type; clazz != null; clazz = superclass(clazz)) {
+            for (VariableElement field : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+                String name = field.getSimpleName().toString();
+                declaredFields.putIfAbsent(name, binaryName(clazz));
+                if (!field.getModifiers().contains(Modifier.FINAL) && !field.getModifiers().contains(Modifier.STATIC)) {
+                    fieldNames.add(name);
+                }
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Map.Entry<String, BeanAccessors.Candidates> entry : methods.entrySet()) {
+            String name = entry.getKey();
+            if (IGNORE_CLASS.equals(name)) {
+                continue;
+            }
+            ExecutableElement readMethod = entry.getValue().read();
+            ExecutableElement writeMethod = entry.getValue().write();
+            if (readMethod == null && writeMethod == null) {
+                continue;
+            }
+            names.add(name);
+            lines.add(line(className, name, readMethod, writeMethod, declaredFields.get(name),
+                    publicFields.get(name)));
+        }
+        for (String name : fieldNames) {
+            if (names.add(name)) {
+                lines.add(line(className, name, null, null, declaredFields.get(name), publicFields.get(name)));
+            }
+        }
+        return lines;
+    }
+
+    /* 同 Class#getFields 的查找顺序：本类、接口、父类 */
+    private void collectPublicFields(TypeElement type, Map<String, String> publicFields) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.PUBLIC)) {
+                publicFields.putIfAbsent(field.getSimpleName().toString(), binaryName(type));
+            }
+        }
+        for (TypeMirror anInterface : type.getInterfaces()) {
+            collectPublicFields((TypeElement) processingEnv.getTypeUtils().asElement(anInterface), publicFields);
+        }
+        TypeElement superclass = superclass(type);
+        if (superclass != null) {
+            collectPublicFields(superclass, publicFields);
+        }
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) processingEnv.getTypeUtils().asElement(superclass) : null;
+    }
+
+    private String line(String className, String name, ExecutableElement readMethod, ExecutableElement writeMethod,
+                        String declaredField, String publicField) {
+        return String.join(String.valueOf(SEPARATOR), className, name,
+                readMethod == null ? NONE : readMethod.getSimpleName().toString(),
+                writeMethod == null ? NONE : writeMethod.getSimpleName().toString(),
+                writeMethod == null ? NONE : className(accessors.parameterType(writeMethod)),
+                declaredField == null ? NONE : declaredField,
+                publicField == null ? NONE : publicField);
+    }
+
+    private void write() {
+        Map<String, List<String>> merged = new TreeMap<>(existing());
+        merged.putAll(entries);
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    LOCATION);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.write('\n');
+                for (List<String> lines : merged.values()) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "write " + LOCATION + " error: " + ex.getMessage());
+        }
+    }
+
+    /* 已有索引，增量编译时未重新处理的类型保留原条目 */
+    private Map<String, List<String>> existing() {
+        Map<String, List<String>> existing = new HashMap<>();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", LOCATION);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                if (!HEADER.equals(reader.readLine())) {
+                    return existing;
+                }
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    int end = line.indexOf(SEPARATOR);
+                    if (end > 0 && line.charAt(0) != '#') {
+                        existing.computeIfAbsent(line.substring(0, end), key -> new ArrayList<>()).add(line);
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+            // 不存在
+        }
+        return existing;
+    }
+
+    /* 与 Class#getName 一致的类型名 */
+    private String className(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                return binaryName((TypeElement) ((DeclaredType) type).asElement());
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            default:
+                return type.toString();
+        }
+    }
+
+    private String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            default:
+                return "L" + className(type) + ";";
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+}
@@ -0,0 +1,195 @@
+package com.sprint.common.converter.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 编译期Bean属性
+ * <p>
+ * 与运行时内省一致：读写方法按 BeanAccessors 的规则选择，其次为公共字段；
+ * PropertyInfo 按 字段、写方法、读方法 的优先级取值，value 为别名，access 限制读写。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class BeanProperties {
+
+    static final String PROPERTY_INFO = "com.sprint.common.converter.conversion.nested.bean.annotation.PropertyInfo";
+
+    private static final String READ_ONLY = "READ_ONLY";
+    private static final String WRITE_ONLY = "WRITE_ONLY";
+
+    /* 忽略转化的字段 */
+    private static final String IGNORE_CLASS = "class";
+
+    private BeanProperties() {
+    }
+
+    /**
+     * 可读属性：别名 -&gt; 读表达式
+     *
+     * @param processingEnv 编译环境
+     * @param type          类型
+     * @return 可读属性
+     */
+    static Map<String, Property> readable(ProcessingEnvironment processingEnv, TypeElement type) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (Property property : collect(processingEnv, type, true).values()) {
+            if (!WRITE_ONLY.equals(property.access)) {
+                properties.putIfAbsent(property.alias, property);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * 可写属性：别名 -&gt; 写表达式
+     *
+     * @param processingEnv 编译环境
+     * @param type          类型
+     * @return 可写属性
+     */
+    static Map<String, Property> writable(ProcessingEnvironment processingEnv, TypeElement type) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        for (Property property : collect(processingEnv, type, false).values()) {
+            if (!READ_ONLY.equals(property.access)) {
+                properties.putIfAbsent(property.alias, property);
+            }
+        }
+        return properties;
+    }
+
+    private static Map<String, Property> collect(ProcessingEnvironment processingEnv, TypeElement type,
+                                                 boolean read) {
+        Types types = processingEnv.getTypeUtils();
+        Map<String, Property> properties = new LinkedHashMap<>();
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                fields.putIfAbsent(field.getSimpleName().toString(), field);
+            }
+        }
+        Map<String, ExecutableElement> readMethods = new LinkedHashMap<>();
+        Map<String, ExecutableElement> writeMethods = new LinkedHashMap<>();
+        for (Map.Entry<String, BeanAccessors.Candidates> entry : new BeanAccessors(processingEnv).collect(type)
+                .entrySet()) {
+            if (IGNORE_CLASS.equals(entry.getKey())) {
+                continue;
+            }
+            ExecutableElement readMethod = entry.getValue().read();
+            ExecutableElement writeMethod = entry.getValue().write();
+            if (readMethod != null) {
+                readMethods.put(entry.getKey(), readMethod);
+            }
+            if (writeMethod != null) {
+                writeMethods.put(entry.getKey(), writeMethod);
+            }
+        }
+
+        Map<String, Element> accessors = new LinkedHashMap<>(read ? readMethods : writeMethods);
+        for (Map.Entry<String, VariableElement> field : fields.entrySet()) {
+            // 无读写方法的属性使用公共字段
+            if (!readMethods.containsKey(field.getKey()) && !writeMethods.containsKey(field.getKey())
+                    && isPublicInstance(field.getValue())
+                    && (read || !field.getValue().getModifiers().contains(Modifier.FINAL))) {
+                accessors.putIfAbsent(field.getKey(), field.getValue());
+            }
+        }
+
+        for (Map.Entry<String, Element> entry : accessors.entrySet()) {
+            String name = entry.getKey();
+            AnnotationMirror propertyInfo = propertyInfo(fields.get(name), writeMethods.get(name),
+                    readMethods.get(name));
+            String alias = name;
+            String access = null;
+            if (propertyInfo != null) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : propertyInfo
+                        .getElementValues().entrySet()) {
+                    String key = value.getKey().getSimpleName().toString();
+                    if ("value".equals(key) && !value.getValue().getValue().toString().isEmpty()) {
+                        alias = value.getValue().getValue().toString();
+                    } else if ("access".equals(key)) {
+                        access = value.getValue().getValue().toString();
+                    }
+                }
+            }
+            Element element = entry.getValue();
+            // 解析父类范型
+            TypeMirror memberType = types.asMemberOf((DeclaredType) type.asType(), element);
+            TypeMirror propertyType = element instanceof ExecutableElement
+                    ? (read ? ((ExecutableType) memberType).getReturnType()
+                    : ((ExecutableType) memberType).getParameterTypes().get(0))
+                    : memberType;
+            properties.put(name, new Property(name, alias, access, element, propertyType));
+        }
+        return properties;
+    }
+
+    private static AnnotationMirror propertyInfo(Element... elements) {
+        for (Element element : elements) {
+            if (element == null) {
+                continue;
+            }
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                        .contentEquals(PROPERTY_INFO)) {
+                    return annotation;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private static boolean isPublicInstance(Element element) {
+        return element.getModifiers().contains(Modifier.PUBLIC) && !element.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /**
+     * 属性
+     */
+    static final class Property {
+
+        final String name;
+        final String alias;
+        final String access;
+        /* 读写方法或字段 */
+        final Element accessor;
+        final TypeMirror type;
+
+        Property(String name, String alias, String access, Element accessor, TypeMirror type) {
+            this.name = name;
+            this.alias = alias;
+            this.access = access;
+            this.accessor = accessor;
+            this.type = type;
+        }
+
+        String read(String instance) {
+            return accessor instanceof ExecutableElement ? instance + "." + accessor.getSimpleName() + "()"
+                    : instance + "." + accessor.getSimpleName();
+        }
+
+        String write(String instance, String value) {
+            return accessor instanceof ExecutableElement ? instance + "." + accessor.getSimpleName() + "(" + value + ")"
+                    : instance + "." + accessor.getSimpleName() + " = " + value;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.sprint.common.converter.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * GenerateConverter 注解处理器
+ * <p>
+ * 为每个被注解的类型生成 {类型名}Converters，实现 SpecificConverterLoader，内含各 source -&gt; target 的
+ * SpecificConverter 实现；生成的加载器写入 META-INF/services，运行时由 ServiceLoader 加载并直接注册。
+ * </p>
+ * <p>
+ * 属性按别名匹配：类型相同的不可变基础属性直接赋值，其余基础属性使用 BaseConverter 转换，
+ * Bean、集合等复杂属性交给 NestedConverters。源属性为null时不覆盖目标属性，与 Beans.cast 一致。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public class ConverterProcessor extends AbstractProcessor {
+
+    static final String GENERATE_CONVERTER =
+            "com.sprint.common.converter.conversion.specific.annotation.GenerateConverter";
+    static final String GENERATE_CONVERTER_LIST = GENERATE_CONVERTER + ".List";
+
+    private static final String LOADER_SERVICE =
+            "META-INF/services/com.sprint.common.converter.conversion.specific.SpecificConverterLoader";
+
+    private static final Set<String> IMMUTABLE_SCALARS = new HashSet<>(Arrays.asList("java.lang.String",
+            "java.lang.Boolean", "java.lang.Character", "java.lang.Byte", "java.lang.Short", "java.lang.Integer",
+            "java.lang.Long", "java.lang.Float", "java.lang.Double", "java.math.BigDecimal", "java.math.BigInteger"));
+
+    private static final Set<String> SCALARS = new HashSet<>(Arrays.asList("java.util.Date", "java.sql.Date",
+            "java.sql.Time", "java.sql.Timestamp", "char[]", "byte[]"));
+
+    private Types types;
+    private Elements elements;
+    private Filer filer;
+    private Messager messager;
+
+    /* 本次编译生成的加载器 */
+    private final Set<String> loaders = new LinkedHashSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(GENERATE_CONVERTER, GENERATE_CONVERTER_LIST));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+        Set<TypeElement> annotated = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            annotated.addAll(ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation)));
+        }
+        for (TypeElement element : annotated) {
+            List<TypeMirror[]> pairs = pairs(element);
+            if (!pairs.isEmpty()) {
+                generateLoader(element, pairs);
+            }
+        }
+        return true;
+    }
+
+    private List<TypeMirror[]> pairs(TypeElement element) {
+        List<TypeMirror[]> pairs = new ArrayList<>();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (GENERATE_CONVERTER.equals(name)) {
+                pairs.add(pair(annotation));
+            } else if (GENERATE_CONVERTER_LIST.equals(name)) {
+                for (AnnotationValue value : values(annotation, "value")) {
+                    pairs.add(pair((AnnotationMirror) value.getValue()));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private TypeMirror[] pair(AnnotationMirror annotation) {
+        TypeMirror source = null;
+        TypeMirror target = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+                .entrySet()) {
+            String key = entry.getKey().getSimpleName().toString();
+            if ("source".equals(key)) {
+                source = (TypeMirror) entry.getValue().getValue();
+            } else if ("target".equals(key)) {
+                target = (TypeMirror) entry.getValue().getValue();
+            }
+        }
+        return new TypeMirror[]{source, target};
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends AnnotationValue> values(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues()
+                .entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return (List<? extends AnnotationValue>) entry.getValue().getValue();
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private void generateLoader(TypeElement element, List<TypeMirror[]> pairs) {
+        String packageName = elements.getPackageOf(element).getQualifiedName().toString();
+        String loaderName = flatName(element) + "Converters";
+        String qualifiedName = packageName.isEmpty() ? loaderName : packageName + "." + loaderName;
+
+        StringBuilder converters = new StringBuilder();
+        List<String> converterNames = new ArrayList<>();
+        for (TypeMirror[] pair : pairs) {
+            TypeElement source = asBean(element, pair[0], false);
+            TypeElement target = asBean(element, pair[1], true);
+            if (source == null || target == null) {
+                return;
+            }
+            String converterName = source.getSimpleName() + "To" + target.getSimpleName();
+            for (int i = 2; converterNames.contains(converterName); i++) {
+                converterName = source.getSimpleName() + "To" + target.getSimpleName() + i;
+            }
+            converterNames.add(converterName);
+            writeConverter(converters, converterName, source, target);
+        }
+
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("/**\n * Generated by ").append(ConverterProcessor.class.getName()).append(" from ")
+                .append(element.getQualifiedName()).append("\n */\n");
+        code.append("public final class ").append(loaderName)
+                .append(" implements com.sprint.common.converter.conversion.specific.SpecificConverterLoader {\n\n");
+        code.append("    @Override\n    public void loadConverters() {\n");
+        for (String converterName : converterNames) {
+            code.append("        com.sprint.common.converter.conversion.specific.SpecificConverters")
+                    .append(".registerSpecificConverter(new ").append(converterName).append("());\n");
+        }
+        code.append("    }\n");
+        code.append(converters);
+        code.append("}\n");
+
+        try (Writer writer = filer.createSourceFile(qualifiedName, element).openWriter()) {
+            writer.write(code.toString());
+            loaders.add(qualifiedName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + qualifiedName + ": " + e.getMessage(),
+                    element);
+        }
+    }
+
+    private TypeElement asBean(TypeElement element, TypeMirror type, boolean target) {
+        if (type == null || type.getKind() != TypeKind.DECLARED) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "GenerateConverter source/target must be a class", element);
+            return null;
+        }
+        TypeElement bean = (TypeElement) ((DeclaredType) type).asElement();
+        if (!bean.getModifiers().contains(Modifier.PUBLIC) || !bean.getTypeParameters().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, bean.getQualifiedName()
+                    + " must be a public, non-generic class", element);
+            return null;
+        }
+        if (target && (bean.getKind() != ElementKind.CLASS || bean.getModifiers().contains(Modifier.ABSTRACT)
+                || !hasPublicNoArgConstructor(bean))) {
+            messager.printMessage(Diagnostic.Kind.ERROR, bean.getQualifiedName()
+                    + " must have a public no-arg constructor", element);
+            return null;
+        }
+        return bean;
+    }
+
+    private static boolean hasPublicNoArgConstructor(TypeElement bean) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(bean.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeConverter(StringBuilder code, String converterName, TypeElement source, TypeElement target) {
+        String sourceName = source.getQualifiedName().toString();
+        String targetName = target.getQualifiedName().toString();
+        Map<String, BeanProperties.Property> readable = BeanProperties.readable(processingEnv, source);
+        Map<String, BeanProperties.Property> writable = BeanProperties.writable(processingEnv, target);
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        int typeIndex = 0;
+        for (Map.Entry<String, BeanProperties.Property> entry : writable.entrySet()) {
+            BeanProperties.Property read = readable.get(entry.getKey());
+            if (read == null) {
+                continue;
+            }
+            BeanProperties.Property write = entry.getValue();
+            TypeMirror readType = read.type;
+            TypeMirror writeType = write.type;
+            String value = read.read("source");
+            body.append("            // ").append(read.name).append(" -> ").append(write.name).append('\n');
+            if (types.isSameType(readType, writeType) && isImmutableScalar(writeType)) {
+                if (readType.getKind().isPrimitive()) {
+                    body.append("            ").append(write.write("target", value)).append(";\n");
+                } else {
+                    body.append("            {\n                ").append(writeType).append(" value = ").append(value)
+                            .append(";\n                if (value != null) {\n                    ")
+                            .append(write.write("target", "value")).append(";\n                }\n            }\n");
+                }
+            } else if (isScalar(writeType)) {
+                String boxed = writeType.getKind().isPrimitive()
+                        ? types.boxedClass((PrimitiveType) writeType).getQualifiedName()
+                        .toString() : types.erasure(writeType).toString();
+                body.append("            {\n                ").append(boxed).append(" value = ")
+                        .append("com.sprint.common.converter.BaseConverter.convert(").append(value).append(", ")
+                        .append(boxed).append(".class);\n                if (value != null) {\n                    ")
+                        .append(write.write("target", "value")).append(";\n                }\n            }\n");
+            } else {
+                String typeField = "TYPE_" + typeIndex++;
+                fields.append("        private static final java.lang.reflect.Type ").append(typeField).append(" = ")
+                        .append(typeLiteral(writeType)).append(";\n");
+                body.append("            {\n                Object value = ")
+                        .append("com.sprint.common.converter.conversion.nested.NestedConverters.convert(")
+                        .append(value).append(", ").append(targetName).append(".class, ").append(typeField)
+                        .append(");\n                if (value != null) {\n                    ")
+                        .append(write.write("target", "(" + writeType + ") value")).append(";\n")
+                        .append("                }\n            }\n");
+            }
+        }
+
+        code.append("\n    public static final class ").append(converterName).append(" implements ")
+                .append("com.sprint.common.converter.conversion.specific.SpecificConverter<").append(sourceName)
+                .append(", ").append(targetName).append("> {\n\n");
+        if (fields.length() > 0) {
+            code.append(fields).append('\n');
+        }
+        code.append("        @Override\n        public Class<").append(sourceName).append("> getSourceClass() {\n")
+                .append("            return ").append(sourceName).append(".class;\n        }\n\n");
+        code.append("        @Override\n        public Class<").append(targetName).append("> getTargetClass() {\n")
+                .append("            return ").append(targetName).append(".class;\n        }\n\n");
+        code.append("        @Override\n        @SuppressWarnings(\"unchecked\")\n        public ").append(targetName)
+                .append(" convert(").append(sourceName).append(" source)\n")
+                .append("                throws com.sprint.common.converter.exception.ConversionException {\n")
+                .append("            if (source == null) {\n                return null;\n            }\n")
+                .append("            ").append(targetName).append(" target = new ").append(targetName)
+                .append("();\n");
+        code.append(body);
+        code.append("            return target;\n        }\n    }\n");
+    }
+
+    private String typeLiteral(TypeMirror type) {
+        if (types.isSameType(type, types.erasure(type))) {
+            return types.erasure(type) + ".class";
+        }
+        return "new com.sprint.common.converter.TypeReference<" + type + ">() {\n        }.getType()";
+    }
+
+    private boolean isImmutableScalar(TypeMirror type) {
+        return type.getKind().isPrimitive() || isEnum(type)
+                || IMMUTABLE_SCALARS.contains(types.erasure(type).toString())
+                || types.erasure(type).toString().startsWith("java.time.");
+    }
+
+    private boolean isScalar(TypeMirror type) {
+        return isImmutableScalar(type) || SCALARS.contains(types.erasure(type).toString());
+    }
+
+    private boolean isEnum(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    private static String flatName(TypeElement element) {
+        StringBuilder name = new StringBuilder(element.getSimpleName());
+        for (Element enclosing = element.getEnclosingElement(); enclosing instanceof TypeElement;
+             enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    /**
+     * 合并已有的服务声明（如资源目录中手写的加载器）
+     */
+    private void writeServices() {
+        if (loaders.isEmpty()) {
+            return;
+        }
+        Set<String> services = new LinkedHashSet<>();
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", LOADER_SERVICE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (!line.trim().isEmpty()) {
+                        services.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+            // 不存在
+        }
+        services.addAll(loaders);
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", LOADER_SERVICE);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String service : services) {
+                    writer.write(service);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + LOADER_SERVICE + ": " + e.getMessage());
+        }
+    }
+}
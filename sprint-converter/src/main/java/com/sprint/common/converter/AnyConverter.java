@@ -2,12 +2,11 @@ package com.sprint.common.converter;
 
 import com.sprint.common.converter.conversion.nested.NestedConverters;
 import com.sprint.common.converter.conversion.nested.bean.BeansException;
-import com.sprint.common.converter.exception.ConversionException;
-import com.sprint.common.converter.exception.ConversionExceptionWrapper;
 import com.sprint.common.converter.util.Assert;
 import com.sprint.common.converter.util.Types;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 
 /**
  * 万物互转
@@ -43,13 +42,12 @@ public final class AnyConverter {
      */
     public static <S, T> Converter<S, T> converter(Type... typePath) {
         Assert.isTrue(typePath.length > 0, "types should ge 1");
-        Converter<?, ?> converter = Converter.identity();
+        Converter<?, ?>[] stages = new Converter<?, ?>[typePath.length - 1];
         for (int i = 0, length = typePath.length; i < length - 1; i++) {
             Class<?> sourceType = Types.extractClass(typePath[i]);
-            Converter<Object, Object> c = NestedConverters.getConverter(sourceType, null, typePath[i + 1]);
-            converter = converter.andThen(c);
+            stages[i] = NestedConverters.getConverter(sourceType, null, typePath[i + 1]);
         }
-        return converter.enforce();
+        return ConverterPipeline.of(stages);
     }
 
 
@@ -67,6 +65,27 @@ public final class AnyConverter {
         return NestedConverters.getConverter(sourceClass, null, targetType.getType());
     }
 
+    /**
+     * 预热：遍历目标对象图，提前完成类型内省、范型解析与转换计划解析，可在服务就绪检查时调用
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 预热报告，包含不支持及存在歧义的类型对
+     */
+    public static PrepareReport prepare(Type sourceType, Type targetType) {
+        return ConverterEngine.current().prepare(sourceType, targetType);
+    }
+
+    /**
+     * 批量预热
+     *
+     * @param pairs 类型对
+     * @return 预热报告，包含不支持及存在歧义的类型对
+     */
+    public static PrepareReport prepare(Collection<TypePair> pairs) {
+        return ConverterEngine.current().prepare(pairs);
+    }
+
     /**
      * 对象转换
      *
@@ -79,15 +98,7 @@ public final class AnyConverter {
      * @throws BeansException bean exception
      */
     private static <S, T> T doConvert(S source, Type first, Type... types) {
-        try {
-            Object target = NestedConverters.convert(source, null, first);
-            for (Type type : types) {
-                target = NestedConverters.convert(target, null, type);
-            }
-            return Converter.doEnforce(target);
-        } catch (ConversionException e) {
-            throw ConversionExceptionWrapper.wrapper(e);
-        }
+        return ConverterEngine.current().doConvert(source, first, types);
     }
 
     /**
@@ -41,10 +41,7 @@ public final class BaseConverter {
         if (converter == null) {
             converter = DynamicConverters.getConverter(sourceClass, targetClass);
         }
-        if (converter == null) {
-            return null;
-        }
-        return converter.enforce();
+        return Converter.doEnforce(converter);
     }
 
     /**
@@ -162,7 +159,7 @@ public final class BaseConverter {
             }
         } else {
             try {
-                Converter<Object, T> enforce = converter.enforce();
+                Converter<Object, T> enforce = Converter.doEnforce(converter);
                 return enforce.convert(source);
             } catch (Exception e) {
                 ConvertErrorException ex;
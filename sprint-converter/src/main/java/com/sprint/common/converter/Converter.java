@@ -36,7 +36,7 @@ public interface Converter<S, T> {
      */
     default <V> Converter<V, T> compose(Converter<? super V, ? extends S> before) {
         Objects.requireNonNull(before);
-        return (V v) -> convert(before.convert(v));
+        return ConverterPipeline.of(before, this);
     }
 
     /**
@@ -48,7 +48,7 @@ public interface Converter<S, T> {
      */
     default <V> Converter<S, V> andThen(Converter<? super T, ? extends V> after) {
         Objects.requireNonNull(after);
-        return (s) -> after.convert(convert(s));
+        return ConverterPipeline.of(this, after);
     }
 
     /**
@@ -59,7 +59,7 @@ public interface Converter<S, T> {
      * @return 转换后转换器
      */
     default <S1, V1> Converter<S1, V1> enforce() {
-        return (s1) -> doEnforce(convert(doEnforce(s1)));
+        return doEnforce(this);
     }
 
     /**
@@ -69,14 +69,7 @@ public interface Converter<S, T> {
      * @return Converter
      */
     default Converter<S, T> onError(ErrorHandler<S, T> handler) {
-        Objects.requireNonNull(handler);
-        return (s) -> {
-            try {
-                return convert(s);
-            } catch (Throwable ex) {
-                return handler.handle(ex, s);
-            }
-        };
+        return ConverterPipeline.onError(this, handler);
     }
 
     /**
@@ -87,13 +80,7 @@ public interface Converter<S, T> {
      */
     default Converter<S, T> onErrorGet(Supplier<T> supplier) {
         Objects.requireNonNull(supplier);
-        return (s) -> {
-            try {
-                return convert(s);
-            } catch (Throwable ex) {
-                return supplier.get();
-            }
-        };
+        return onError((ex, s) -> supplier.get());
     }
 
     /**
@@ -103,16 +90,12 @@ public interface Converter<S, T> {
      * @return Converter
      */
     default Converter<S, T> ignoreError(Consumer<Throwable> consumer) {
-        return (s) -> {
-            try {
-                return convert(s);
-            } catch (Throwable ex) {
-                if (consumer != null) {
-                    consumer.accept(ex);
-                }
+        return onError((ex, s) -> {
+            if (consumer != null) {
+                consumer.accept(ex);
             }
             return null;
-        };
+        });
     }
 
     /**
@@ -121,13 +104,7 @@ public interface Converter<S, T> {
      * @return Converter
      */
     default Converter<S, T> ignoreError() {
-        return (s) -> {
-            try {
-                return convert(s);
-            } catch (Throwable ex) {
-            }
-            return null;
-        };
+        return onError((ex, s) -> null);
     }
 
     /**
@@ -137,18 +114,7 @@ public interface Converter<S, T> {
      * @return Converter
      */
     default Converter<S, T> onNullGet(Supplier<T> supplier) {
-        Objects.requireNonNull(supplier);
-        return (s) -> {
-            if (s == null) {
-                return supplier.get();
-            } else {
-                T res = convert(s);
-                if (res == null) {
-                    return supplier.get();
-                }
-                return res;
-            }
-        };
+        return ConverterPipeline.onNullGet(this, supplier);
     }
 
     /**
@@ -158,16 +124,7 @@ public interface Converter<S, T> {
      * @return target
      */
     default Converter<S, T> around(AroundHandler<S, T> handler) {
-        return (s) -> {
-            S s1 = handler.before(s);
-            T t = null;
-            try {
-                t = convert(s1);
-            } finally {
-                t = handler.after(s1, t);
-            }
-            return t;
-        };
+        return ConverterPipeline.around(this, handler);
     }
 
     /**
@@ -192,7 +149,7 @@ public interface Converter<S, T> {
      * @return 自身转换器
      */
     static <T> Converter<T, T> identity() {
-        return t -> t;
+        return doEnforce(ConverterPipeline.IDENTITY);
     }
 
     /**
@@ -203,7 +160,7 @@ public interface Converter<S, T> {
      * @return 自身转换器
      */
     static <S, T> Converter<S, T> enforcer() {
-        return Converter::doEnforce;
+        return doEnforce(ConverterPipeline.IDENTITY);
     }
 
     /**
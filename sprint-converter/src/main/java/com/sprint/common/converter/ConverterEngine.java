@@ -0,0 +1,604 @@
+package com.sprint.common.converter;
+
+import com.sprint.common.converter.conversion.dynamic.DynamicConverterLoader;
+import com.sprint.common.converter.conversion.dynamic.DynamicConverterRegistry;
+import com.sprint.common.converter.conversion.nested.NestedConverterLoader;
+import com.sprint.common.converter.conversion.nested.NestedConverterRegistry;
+import com.sprint.common.converter.conversion.nested.json.JsonConverter;
+import com.sprint.common.converter.conversion.nested.json.Jsons;
+import com.sprint.common.converter.conversion.specific.SpecificConverterLoader;
+import com.sprint.common.converter.conversion.specific.SpecificConverterRegistry;
+import com.sprint.common.converter.exception.ConversionException;
+import com.sprint.common.converter.exception.ConversionExceptionWrapper;
+import com.sprint.common.converter.util.Assert;
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 转换引擎
+ * <p>
+ * 持有独立的转换器注册表、转换计划缓存、Json实现与配置，多个引擎可在同一进程内并存。
+ * AnyConverter/BaseConverter/BeanConverter 等静态入口委托给当前线程绑定的引擎，未绑定时使用默认引擎。
+ * 默认引擎的配置需在首次使用前通过 {@link #configureDefault(Options)} 设置。
+ * 类型内省结果与引擎无关，仍全局共享。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class ConverterEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConverterEngine.class);
+
+    /* 当前线程绑定的引擎 */
+    private static final ThreadLocal<ConverterEngine> CURRENT = new ThreadLocal<>();
+
+    /* 默认引擎配置，需在默认引擎初始化前设置 */
+    private static Options defaultOptions;
+    private static boolean defaultInitialized;
+
+    /* 不可预编译的类型路径占位 */
+    private static final Converter<Object, Object> NOT_COMPILABLE = source -> source;
+
+    private final Options options;
+    private final NestedConverterRegistry nestedConverters;
+    private final SpecificConverterRegistry specificConverters;
+    private final DynamicConverterRegistry dynamicConverters;
+    private final JsonConverter jsonConverter;
+
+    /* 类型路径转换管道缓存，绑定嵌套转换器注册表版本 */
+    private volatile PathCache pathCache;
+    /* 按配置的预热文件启动的预热 */
+    private final CompletableFuture<PrepareReport> warmUp;
+
+    public ConverterEngine() {
+        this(new Options());
+    }
+
+    public ConverterEngine(Options options) {
+        this.options = options.copy();
+        this.nestedConverters = new NestedConverterRegistry(this.options.getPlanCacheSize(),
+                this.options.isFailFast(), this.options.getWarmProfile() != null);
+        this.specificConverters = new SpecificConverterRegistry();
+        this.dynamicConverters = new DynamicConverterRegistry();
+        this.pathCache = new PathCache(nestedConverters.getEpoch());
+
+        ClassLoader loader = this.options.getClassLoader() == null ? Thread.currentThread().getContextClassLoader()
+                : this.options.getClassLoader();
+        // 加载期间绑定当前引擎，SPI加载器通过静态入口注册到当前引擎
+        ConverterEngine previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            this.jsonConverter = this.options.getJsonConverter() == null ? Jsons.loadJsonConverter(loader)
+                    : this.options.getJsonConverter();
+            if (this.options.isLoadServices()) {
+                loadServices(loader);
+            }
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        if (this.options.getWarmProfile() != null) {
+            Path warmProfile = this.options.getWarmProfile();
+            this.warmUp = warmUp(warmProfile);
+            WarmProfile.saveOnExit(warmProfile, this);
+        } else {
+            this.warmUp = CompletableFuture.completedFuture(new PrepareReport());
+        }
+    }
+
+    private static void loadServices(ClassLoader loader) {
+        for (SpecificConverterLoader specificConverterLoader : ServiceLoader.load(SpecificConverterLoader.class,
+                loader)) {
+            specificConverterLoader.loadConverters();
+        }
+        for (DynamicConverterLoader dynamicConverterLoader : ServiceLoader.load(DynamicConverterLoader.class, loader)) {
+            dynamicConverterLoader.loadConverters();
+        }
+        for (NestedConverterLoader nestedConverterLoader : ServiceLoader.load(NestedConverterLoader.class, loader)) {
+            nestedConverterLoader.loadConverters();
+        }
+    }
+
+    /**
+     * 设置默认引擎配置，须在默认引擎首次使用（含静态入口的首次转换）之前调用
+     *
+     * @param options 配置
+     * @throws IllegalStateException 默认引擎已初始化
+     */
+    public static synchronized void configureDefault(Options options) {
+        Assert.notNull(options, "options can't be null");
+        if (defaultInitialized) {
+            throw new IllegalStateException("default converter engine already initialized");
+        }
+        defaultOptions = options.copy();
+    }
+
+    private static synchronized ConverterEngine newDefault() {
+        defaultInitialized = true;
+        return new ConverterEngine(defaultOptions == null ? new Options() : defaultOptions);
+    }
+
+    /**
+     * 默认引擎
+     *
+     * @return 默认引擎
+     */
+    public static ConverterEngine getDefault() {
+        return DefaultHolder.DEFAULT;
+    }
+
+    /**
+     * 当前线程绑定的引擎，未绑定返回默认引擎
+     *
+     * @return 引擎
+     */
+    public static ConverterEngine current() {
+        ConverterEngine engine = CURRENT.get();
+        return engine == null ? DefaultHolder.DEFAULT : engine;
+    }
+
+    /**
+     * 绑定当前引擎后执行，期间静态入口（AnyConverter、Beans等）均使用当前引擎
+     *
+     * @param action 执行逻辑
+     * @param <R>    r
+     * @return 执行结果
+     */
+    public <R> R execute(Supplier<R> action) {
+        ConverterEngine previous = CURRENT.get();
+        if (previous == this) {
+            return action.get();
+        }
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 绑定当前引擎，返回的转换器在任意线程调用时均使用当前引擎
+     *
+     * @param converter 转换器
+     * @param <S>       s
+     * @param <T>       t
+     * @return 转换器
+     */
+    public <S, T> Converter<S, T> bind(Converter<S, T> converter) {
+        if (converter == null) {
+            return null;
+        }
+        return (source) -> {
+            ConverterEngine previous = CURRENT.get();
+            if (previous == this) {
+                return converter.convert(source);
+            }
+            CURRENT.set(this);
+            try {
+                return converter.convert(source);
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 获取转换器
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param <S>        源类范型
+     * @param <T>        目标类范型
+     * @return 转换器
+     */
+    public <S, T> Converter<S, T> converter(Class<S> sourceType, Type targetType) {
+        return bind(nestedConverters.getConverter(sourceType, null, targetType));
+    }
+
+    /**
+     * 对象转换
+     *
+     * @param source   源对象
+     * @param type     type
+     * @param typePath 目标类
+     * @param <T>      目标类范型
+     * @return 返回目标类对象
+     */
+    public <T> T convert(Object source, Type type, Type... typePath) {
+        return execute(() -> doConvert(source, type, typePath));
+    }
+
+    /**
+     * 对象转换
+     *
+     * @param source 源对象
+     * @param type   目标类
+     * @param <T>    目标类范型
+     * @return 返回目标类对象
+     */
+    public <T> T convert(Object source, TypeReference<T> type) {
+        return execute(() -> doConvert(source, type.getType()));
+    }
+
+    /**
+     * 预热：遍历目标对象图，提前解析并缓存所有转换计划
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 预热报告
+     */
+    public PrepareReport prepare(Type sourceType, Type targetType) {
+        return prepare(Collections.singletonList(TypePair.of(sourceType, targetType)));
+    }
+
+    /**
+     * 批量预热
+     *
+     * @param pairs 类型对
+     * @return 预热报告
+     */
+    public PrepareReport prepare(Collection<TypePair> pairs) {
+        return execute(() -> {
+            long start = System.nanoTime();
+            PrepareReport report = new PrepareReport();
+            ConverterPreparer preparer = new ConverterPreparer(this, report);
+            for (TypePair pair : pairs) {
+                preparer.prepare(pair.getSourceType(), pair.getTargetType());
+            }
+            report.addElapsedNanos(System.nanoTime() - start);
+            return report;
+        });
+    }
+
+    /**
+     * 后台预热：读取预热文件并在守护线程中批量预热，文件不存在时不预热
+     *
+     * @param file 预热文件，见 {@link WarmProfile}
+     * @return 预热结果
+     */
+    public CompletableFuture<PrepareReport> warmUp(Path file) {
+        ClassLoader loader = this.options.getClassLoader() == null ? Thread.currentThread().getContextClassLoader()
+                : this.options.getClassLoader();
+        CompletableFuture<PrepareReport> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                future.complete(prepare(WarmProfile.read(file, loader)));
+            } catch (Throwable e) {
+                logger.warn("warm up from {} error message : {}", file, e.getMessage());
+                future.completeExceptionally(e);
+            }
+        }, "converter-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+
+    /**
+     * 按 {@link Options#setWarmProfile(Path)} 启动的预热，未配置时为已完成的空报告
+     *
+     * @return 预热结果
+     */
+    public CompletableFuture<PrepareReport> getWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * 将本次解析过的类型对写入预热文件，需开启 {@link Options#setWarmProfile(Path)}
+     *
+     * @param file 预热文件
+     * @throws IOException 写入异常
+     */
+    public void saveWarmProfile(Path file) throws IOException {
+        WarmProfile.write(file, nestedConverters.getRecordedPairs());
+    }
+
+    /**
+     * 已解析的类型对，需开启 {@link Options#setWarmProfile(Path)}
+     *
+     * @return 类型对
+     */
+    public Set<TypePair> getRecordedPairs() {
+        return nestedConverters.getRecordedPairs();
+    }
+
+    /**
+     * 对象转换，调用方需已绑定当前引擎
+     */
+    <S, T> T doConvert(S source, Type first, Type... types) {
+        try {
+            if (source != null && types.length > 0) {
+                Converter<Object, Object> converter = pathConverter(source.getClass(), first, types);
+                if (converter != NOT_COMPILABLE) {
+                    return Converter.doEnforce(converter.convert(source));
+                }
+            }
+            Object target = nestedConverters.convert(source, null, first);
+            for (Type type : types) {
+                target = nestedConverters.convert(target, null, type);
+            }
+            return Converter.doEnforce(target);
+        } catch (ConversionException e) {
+            throw ConversionExceptionWrapper.wrapper(e);
+        }
+    }
+
+    /**
+     * 获取预编译的类型路径转换管道
+     *
+     * @param sourceClass 源类型
+     * @param first       first
+     * @param types       类型路径
+     * @return 转换管道，无法预编译时返回 NOT_COMPILABLE
+     */
+    private Converter<Object, Object> pathConverter(Class<?> sourceClass, Type first, Type[] types) {
+        long epoch = nestedConverters.getEpoch();
+        PathCache cache = pathCache;
+        if (cache.epoch != epoch) {
+            cache = new PathCache(epoch);
+            pathCache = cache;
+        }
+        PathKey key = new PathKey(sourceClass, first, types);
+        Converter<Object, Object> converter = cache.paths.get(key);
+        if (converter == null) {
+            converter = compilePath(sourceClass, first, types);
+            // 缓存的key不能引用调用方可能复用的数组
+            cache.paths.put(new PathKey(sourceClass, first, types.clone()), converter);
+        }
+        return converter;
+    }
+
+    private Converter<Object, Object> compilePath(Class<?> sourceClass, Type first, Type[] types) {
+        Converter<?, ?>[] stages = new Converter<?, ?>[types.length + 1];
+        stages[0] = nestedConverters.getConverter(sourceClass, null, first);
+        Type previous = first;
+        for (int i = 0; i < types.length; i++) {
+            // 中间结果的运行时类型需与声明类型一致，否则逐级按运行时类型转换
+            Class<?> hopSourceClass = Types.extractClass(previous);
+            if (!isStableHopClass(hopSourceClass)) {
+                return NOT_COMPILABLE;
+            }
+            stages[i + 1] = nestedConverters.getConverter(hopSourceClass, null, types[i]);
+            previous = types[i];
+        }
+        return ConverterPipeline.nullSafe(stages);
+    }
+
+    private static boolean isStableHopClass(Class<?> clazz) {
+        if (Types.isObjectType(clazz)) {
+            return false;
+        }
+        if (Types.isMulti(clazz)) {
+            return true;
+        }
+        return clazz.isPrimitive() || clazz.isArray()
+                || (!clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()));
+    }
+
+    public Options getOptions() {
+        return options.copy();
+    }
+
+    /**
+     * 是否宽松匹配属性名，热路径使用，不复制配置
+     *
+     * @return {@link Options#isLenientPropertyNames()}
+     */
+    public boolean isLenientPropertyNames() {
+        return options.isLenientPropertyNames();
+    }
+
+    public NestedConverterRegistry getNestedConverters() {
+        return nestedConverters;
+    }
+
+    public SpecificConverterRegistry getSpecificConverters() {
+        return specificConverters;
+    }
+
+    public DynamicConverterRegistry getDynamicConverters() {
+        return dynamicConverters;
+    }
+
+    public JsonConverter getJsonConverter() {
+        return jsonConverter;
+    }
+
+    /**
+     * 转换计划缓存命中次数
+     *
+     * @return 命中次数
+     */
+    public long getPlanCacheHits() {
+        return nestedConverters.getPlanCacheHits();
+    }
+
+    /**
+     * 转换计划缓存未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getPlanCacheMisses() {
+        return nestedConverters.getPlanCacheMisses();
+    }
+
+    /**
+     * 转换计划缓存数量
+     *
+     * @return 缓存数量
+     */
+    public int getPlanCacheSize() {
+        return nestedConverters.getPlanCacheSize();
+    }
+
+    /**
+     * 引擎配置
+     */
+    public static class Options {
+
+        /* 是否通过SPI加载内置及扩展转换器 */
+        private boolean loadServices = true;
+        /* SPI加载使用的ClassLoader，为空时使用线程上下文ClassLoader */
+        private ClassLoader classLoader;
+        /* Json实现，为空时自动发现 */
+        private JsonConverter jsonConverter;
+        /* 转换计划缓存初始容量 */
+        private int planCacheSize = 256;
+        /* 转换器抛出异常时直接失败，不再尝试后续转换器 */
+        private boolean failFast;
+        /* Map转Bean时key宽松匹配属性名：忽略大小写及下划线、中划线，如 user_name、USERNAME 匹配 userName */
+        private boolean lenientPropertyNames;
+        /* 预热文件：记录解析过的类型对，启动时后台预热，JVM退出时写回 */
+        private Path warmProfile;
+
+        public boolean isLoadServices() {
+            return loadServices;
+        }
+
+        public void setLoadServices(boolean loadServices) {
+            this.loadServices = loadServices;
+        }
+
+        public ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        public void setClassLoader(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        public JsonConverter getJsonConverter() {
+            return jsonConverter;
+        }
+
+        public void setJsonConverter(JsonConverter jsonConverter) {
+            this.jsonConverter = jsonConverter;
+        }
+
+        public int getPlanCacheSize() {
+            return planCacheSize;
+        }
+
+        public void setPlanCacheSize(int planCacheSize) {
+            this.planCacheSize = planCacheSize;
+        }
+
+        public boolean isFailFast() {
+            return failFast;
+        }
+
+        public void setFailFast(boolean failFast) {
+            this.failFast = failFast;
+        }
+
+        public boolean isLenientPropertyNames() {
+            return lenientPropertyNames;
+        }
+
+        public void setLenientPropertyNames(boolean lenientPropertyNames) {
+            this.lenientPropertyNames = lenientPropertyNames;
+        }
+
+        public Path getWarmProfile() {
+            return warmProfile;
+        }
+
+        public void setWarmProfile(Path warmProfile) {
+            this.warmProfile = warmProfile;
+        }
+
+        Options copy() {
+            Options copy = new Options();
+            copy.loadServices = loadServices;
+            copy.classLoader = classLoader;
+            copy.jsonConverter = jsonConverter;
+            copy.planCacheSize = planCacheSize;
+            copy.failFast = failFast;
+            copy.lenientPropertyNames = lenientPropertyNames;
+            copy.warmProfile = warmProfile;
+            return copy;
+        }
+    }
+
+    /**
+     * 默认引擎，首次使用时初始化
+     */
+    private static final class DefaultHolder {
+
+        private static final ConverterEngine DEFAULT = newDefault();
+    }
+
+    /**
+     * 类型路径缓存，注册表版本变化后整体废弃
+     */
+    private static final class PathCache {
+
+        private final long epoch;
+        private final ConcurrentReferenceHashMap<PathKey, Converter<Object, Object>> paths = new ConcurrentReferenceHashMap<>();
+
+        PathCache(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * 类型路径缓存key
+     */
+    private static final class PathKey {
+
+        private final Class<?> sourceClass;
+        private final Type first;
+        private final Type[] types;
+        private final int hash;
+
+        PathKey(Class<?> sourceClass, Type first, Type[] types) {
+            this.sourceClass = sourceClass;
+            this.first = first;
+            this.types = types;
+            this.hash = 31 * (31 * sourceClass.hashCode() + first.hashCode()) + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PathKey)) {
+                return false;
+            }
+            PathKey that = (PathKey) o;
+            return sourceClass == that.sourceClass && first.equals(that.first) && Arrays.equals(types, that.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
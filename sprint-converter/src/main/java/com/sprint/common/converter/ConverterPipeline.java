@@ -0,0 +1,219 @@
+package com.sprint.common.converter;
+
+import com.sprint.common.converter.exception.ConversionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 扁平化转换管道
+ * <p>
+ * 组合转换器时展开为数组顺序执行，合并 identity/enforce 阶段，异常处理只在顶层包一层 try/catch，
+ * 避免层层嵌套的 lambda 调用栈。
+ * </p>
+ * <p>
+ * 执行时由外到内依次为：异常处理、环绕处理、空值处理、转换阶段。追加的处理位于已有处理外层时直接合并到同一管道，
+ * 否则将原管道作为单个阶段。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class ConverterPipeline implements Converter<Object, Object> {
+
+    private static final Converter<Object, Object>[] EMPTY_STAGES = newStages(0);
+
+    static final ConverterPipeline IDENTITY = new ConverterPipeline(EMPTY_STAGES, null, false, null, null);
+
+    private final Converter<Object, Object>[] stages;
+    private final ErrorHandler<Object, Object> errorHandler;
+    /* 中间结果为null时直接返回null */
+    private final boolean nullSafe;
+    private final AroundHandler<Object, Object> aroundHandler;
+    /* 源或结果为null时的取值 */
+    private final Supplier<Object> nullSupplier;
+
+    private ConverterPipeline(Converter<Object, Object>[] stages, ErrorHandler<Object, Object> errorHandler,
+                              boolean nullSafe, AroundHandler<Object, Object> aroundHandler,
+                              Supplier<Object> nullSupplier) {
+        this.stages = stages;
+        this.errorHandler = errorHandler;
+        this.nullSafe = nullSafe;
+        this.aroundHandler = aroundHandler;
+        this.nullSupplier = nullSupplier;
+    }
+
+    /**
+     * 顺序组合转换器
+     *
+     * @param converters 转换器
+     * @param <S>        s
+     * @param <T>        t
+     * @return 转换器
+     */
+    static <S, T> Converter<S, T> of(Converter<?, ?>... converters) {
+        return Converter.doEnforce(build(converters, false));
+    }
+
+    /**
+     * 顺序组合转换器，任一阶段结果为null时直接返回null
+     *
+     * @param converters 转换器
+     * @param <S>        s
+     * @param <T>        t
+     * @return 转换器
+     */
+    static <S, T> Converter<S, T> nullSafe(Converter<?, ?>... converters) {
+        return Converter.doEnforce(build(converters, true));
+    }
+
+    /**
+     * 增加异常处理
+     *
+     * @param converter 转换器
+     * @param handler   异常处理
+     * @param <S>       s
+     * @param <T>       t
+     * @return 转换器
+     */
+    static <S, T> Converter<S, T> onError(Converter<S, T> converter, ErrorHandler<S, T> handler) {
+        Objects.requireNonNull(handler);
+        ErrorHandler<Object, Object> errorHandler = Converter.doEnforce(handler);
+        if (converter instanceof ConverterPipeline && ((ConverterPipeline) converter).errorHandler == null) {
+            ConverterPipeline pipeline = (ConverterPipeline) converter;
+            return Converter.doEnforce(new ConverterPipeline(pipeline.stages, errorHandler, pipeline.nullSafe,
+                    pipeline.aroundHandler, pipeline.nullSupplier));
+        }
+        return Converter.doEnforce(new ConverterPipeline(newStages(converter), errorHandler, false, null, null));
+    }
+
+    /**
+     * 增加环绕处理
+     *
+     * @param converter 转换器
+     * @param handler   环绕处理
+     * @param <S>       s
+     * @param <T>       t
+     * @return 转换器
+     */
+    static <S, T> Converter<S, T> around(Converter<S, T> converter, AroundHandler<S, T> handler) {
+        Objects.requireNonNull(handler);
+        AroundHandler<Object, Object> aroundHandler = Converter.doEnforce(handler);
+        if (converter instanceof ConverterPipeline) {
+            ConverterPipeline pipeline = (ConverterPipeline) converter;
+            if (pipeline.errorHandler == null && pipeline.aroundHandler == null) {
+                return Converter.doEnforce(new ConverterPipeline(pipeline.stages, null, pipeline.nullSafe,
+                        aroundHandler, pipeline.nullSupplier));
+            }
+        }
+        return Converter.doEnforce(new ConverterPipeline(newStages(converter), null, false, aroundHandler, null));
+    }
+
+    /**
+     * 源或结果为null时取默认值
+     *
+     * @param converter 转换器
+     * @param supplier  默认值
+     * @param <S>       s
+     * @param <T>       t
+     * @return 转换器
+     */
+    static <S, T> Converter<S, T> onNullGet(Converter<S, T> converter, Supplier<T> supplier) {
+        Objects.requireNonNull(supplier);
+        Supplier<Object> nullSupplier = Converter.doEnforce(supplier);
+        if (converter instanceof ConverterPipeline) {
+            ConverterPipeline pipeline = (ConverterPipeline) converter;
+            if (pipeline.errorHandler == null && pipeline.aroundHandler == null && pipeline.nullSupplier == null) {
+                return Converter.doEnforce(new ConverterPipeline(pipeline.stages, null, pipeline.nullSafe,
+                        null, nullSupplier));
+            }
+        }
+        return Converter.doEnforce(new ConverterPipeline(newStages(converter), null, false, null, nullSupplier));
+    }
+
+    private static ConverterPipeline build(Converter<?, ?>[] converters, boolean nullSafe) {
+        List<Converter<Object, Object>> stages = new ArrayList<>(converters.length);
+        for (Converter<?, ?> converter : converters) {
+            Objects.requireNonNull(converter);
+            if (converter instanceof ConverterPipeline) {
+                ConverterPipeline pipeline = (ConverterPipeline) converter;
+                if (pipeline.isPlain() && (pipeline.nullSafe == nullSafe || pipeline.stages.length == 0)) {
+                    for (Converter<Object, Object> stage : pipeline.stages) {
+                        stages.add(stage);
+                    }
+                    continue;
+                }
+            }
+            stages.add(Converter.doEnforce(converter));
+        }
+        if (stages.isEmpty() && !nullSafe) {
+            return IDENTITY;
+        }
+        return new ConverterPipeline(stages.toArray(EMPTY_STAGES), null, nullSafe, null, null);
+    }
+
+    private boolean isPlain() {
+        return errorHandler == null && aroundHandler == null && nullSupplier == null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Converter<Object, Object>[] newStages(int length) {
+        return new Converter[length];
+    }
+
+    private static Converter<Object, Object>[] newStages(Converter<?, ?> converter) {
+        Converter<Object, Object>[] stages = newStages(1);
+        stages[0] = Converter.doEnforce(converter);
+        return stages;
+    }
+
+    @Override
+    public Object convert(Object source) throws ConversionException {
+        if (errorHandler == null) {
+            return doAround(source);
+        }
+        try {
+            return doAround(source);
+        } catch (Throwable ex) {
+            return errorHandler.handle(ex, source);
+        }
+    }
+
+    private Object doAround(Object source) throws ConversionException {
+        if (aroundHandler == null) {
+            return doConvertOrGet(source);
+        }
+        Object value = aroundHandler.before(source);
+        Object target = null;
+        try {
+            target = doConvertOrGet(value);
+        } finally {
+            target = aroundHandler.after(value, target);
+        }
+        return target;
+    }
+
+    private Object doConvertOrGet(Object source) throws ConversionException {
+        if (nullSupplier == null) {
+            return doConvert(source);
+        }
+        if (source == null) {
+            return nullSupplier.get();
+        }
+        Object target = doConvert(source);
+        return target == null ? nullSupplier.get() : target;
+    }
+
+    private Object doConvert(Object source) throws ConversionException {
+        Object value = source;
+        for (Converter<Object, Object> stage : stages) {
+            if (nullSafe && value == null) {
+                return null;
+            }
+            value = stage.convert(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,201 @@
+package com.sprint.common.converter;
+
+import com.sprint.common.converter.conversion.nested.bean.BeanMapper;
+import com.sprint.common.converter.conversion.nested.bean.ConstructorInstantiator;
+import com.sprint.common.converter.conversion.nested.bean.Properties;
+import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.conversion.specific.SpecificConverter;
+import com.sprint.common.converter.util.Types;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 转换预热
+ * <p>
+ * 按声明类型遍历目标对象图（Bean属性、集合/数组元素、Map键值），提前完成类型内省、范型解析与转换计划解析，
+ * Bean之间另生成映射器与拷贝计划，并记录不支持或存在歧义的类型对。运行时类型为 Object 的节点无法预知，跳过。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class ConverterPreparer {
+
+    private static final int MAX_DEPTH = 32;
+
+    private static final Class<?>[] COMMON_IMPLEMENTATIONS = {ArrayList.class, LinkedList.class, HashSet.class,
+            LinkedHashSet.class, TreeSet.class, HashMap.class, LinkedHashMap.class, TreeMap.class};
+
+    private final ConverterEngine engine;
+    private final PrepareReport report;
+    private final Set<List<Type>> visited = new HashSet<>();
+
+    ConverterPreparer(ConverterEngine engine, PrepareReport report) {
+        this.engine = engine;
+        this.report = report;
+    }
+
+    void prepare(Type sourceType, Type targetType) {
+        prepare(null, sourceType, null, targetType, rootPath(targetType), 0);
+    }
+
+    private static String rootPath(Type targetType) {
+        try {
+            Class<?> targetClass = Types.extractClass(targetType);
+            if (targetClass != null) {
+                return targetClass.getSimpleName();
+            }
+        } catch (RuntimeException ignored) {
+            // 无法解析的类型由prepare记录为不支持
+        }
+        return String.valueOf(targetType);
+    }
+
+    private void prepare(Type sourceBeanType, Type sourceType, Type targetBeanType, Type targetType, String path,
+                         int depth) {
+        if (depth > MAX_DEPTH || sourceType == null || targetType == null) {
+            return;
+        }
+        Class<?> sourceClass;
+        Class<?> targetClass;
+        try {
+            sourceClass = Types.extractClass(sourceType, sourceBeanType);
+            targetClass = Types.extractClass(targetType, targetBeanType);
+        } catch (RuntimeException e) {
+            report.addUnsupported(path, sourceType, targetType, "unresolvable type: " + e.getMessage());
+            return;
+        }
+        // 运行时类型决定转换方式
+        if (sourceClass == null || targetClass == null || Types.isObjectType(sourceClass)
+                || Types.isObjectType(targetClass)) {
+            return;
+        }
+        if (!visited.add(Arrays.asList(sourceClass, sourceType, sourceBeanType, targetBeanType, targetType))) {
+            return;
+        }
+
+        try {
+            engine.getNestedConverters().getConverter(sourceClass, targetBeanType, targetType);
+            // 声明为接口的集合，运行时多为常用实现类，一并解析
+            if (sourceClass.isInterface() || Modifier.isAbstract(sourceClass.getModifiers())) {
+                for (Class<?> implementation : COMMON_IMPLEMENTATIONS) {
+                    if (sourceClass.isAssignableFrom(implementation)) {
+                        engine.getNestedConverters().getConverter(implementation, targetBeanType, targetType);
+                    }
+                }
+            }
+            report.incrementPrepared();
+            prepareChildren(sourceBeanType, sourceType, sourceClass, targetBeanType, targetType, targetClass, path,
+                    depth);
+        } catch (RuntimeException e) {
+            report.addUnsupported(path, sourceType, targetType, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private void prepareChildren(Type sourceBeanType, Type sourceType, Class<?> sourceClass, Type targetBeanType,
+                                 Type targetType, Class<?> targetClass, String path, int depth) {
+        boolean sourceMulti = Types.isArray(sourceClass) || Types.isCollection(sourceClass);
+        boolean targetMulti = Types.isArray(targetClass) || Types.isCollection(targetClass);
+        boolean sourceMap = Types.isMap(sourceClass);
+        boolean targetMap = Types.isMap(targetClass);
+
+        if (sourceMulti && targetMulti) {
+            prepare(sourceBeanType, elementType(sourceBeanType, sourceType, sourceClass), targetBeanType,
+                    elementType(targetBeanType, targetType, targetClass), path + "[]", depth + 1);
+        } else if (sourceMulti && !targetMap) {
+            prepare(sourceBeanType, elementType(sourceBeanType, sourceType, sourceClass), targetBeanType, targetType,
+                    path + "[0]", depth + 1);
+        } else if (targetMulti && !sourceMap) {
+            prepare(sourceBeanType, sourceType, targetBeanType, elementType(targetBeanType, targetType, targetClass),
+                    path + "[]", depth + 1);
+        } else if (sourceMap && targetMap) {
+            Type[] sourceKV = Types.getMapKVType(sourceBeanType, sourceType);
+            Type[] targetKV = Types.getMapKVType(targetBeanType, targetType);
+            prepare(sourceBeanType, sourceKV[0], targetBeanType, targetKV[0], path + "{key}", depth + 1);
+            prepare(sourceBeanType, sourceKV[1], targetBeanType, targetKV[1], path + "{value}", depth + 1);
+        } else if (sourceMap && Types.isBean(targetClass)) {
+            checkInstantiable(sourceType, targetType, targetClass, path);
+            Type valueType = Types.getMapKVType(sourceBeanType, sourceType)[1];
+            Type beanType = componentType(targetBeanType, targetType);
+            for (PropertyAccess propertyAccess : CachedIntrospectionResults.forClass(targetClass)
+                    .getWritePropertyAccess()) {
+                prepare(sourceBeanType, valueType, beanType, propertyAccess.getType(),
+                        path + "." + propertyAccess.getName(), depth + 1);
+            }
+        } else if (Types.isBean(sourceClass) && targetMap) {
+            Type beanType = componentType(sourceBeanType, sourceType);
+            Type mapType = componentType(targetBeanType, targetType);
+            Type valueType = Types.getMapKVType(mapType)[1];
+            for (PropertyAccess propertyAccess : CachedIntrospectionResults.forClass(sourceClass)
+                    .getReadPropertyAccess()) {
+                prepare(beanType, propertyAccess.getType(), mapType, valueType,
+                        path + "." + propertyAccess.getName(), depth + 1);
+            }
+        } else if (Types.isBean(sourceClass) && Types.isBean(targetClass)) {
+            checkInstantiable(sourceType, targetType, targetClass, path);
+            Type sourceComponentType = componentType(sourceBeanType, sourceType);
+            Type targetComponentType = componentType(targetBeanType, targetType);
+            // 未注册Bean转换器时由 Beans.cast 经映射器转换，提前生成映射类与拷贝计划
+            if (engine.getSpecificConverters().getConverter(sourceClass, targetClass) == null) {
+                BeanMapper.prepare(sourceClass, targetComponentType instanceof TypeVariable ? targetClass
+                        : targetComponentType);
+            }
+            for (PropertyAccess[] propertyAccesses : Properties.getCommonPropertyAccess(sourceClass, targetClass)) {
+                prepare(sourceComponentType, propertyAccesses[0].getType(), targetComponentType,
+                        propertyAccesses[1].getType(), path + "." + propertyAccesses[1].getName(), depth + 1);
+            }
+        } else if (!sourceMap && !targetMap && !Types.isBean(targetClass)) {
+            prepareBase(sourceType, sourceClass, targetType, targetClass, path);
+        } else if (CharSequence.class.isAssignableFrom(sourceClass) && engine.getJsonConverter() == null) {
+            report.addUnsupported(path, sourceType, targetType, "no json converter");
+        }
+    }
+
+    private void prepareBase(Type sourceType, Class<?> sourceClass, Type targetType, Class<?> targetClass,
+                             String path) {
+        if (sourceClass == targetClass) {
+            return;
+        }
+        if (Types.isBean(sourceClass) && CharSequence.class.isAssignableFrom(targetClass)) {
+            if (engine.getJsonConverter() == null) {
+                report.addUnsupported(path, sourceType, targetType, "no json converter");
+            }
+            return;
+        }
+        List<SpecificConverter<?, ?>> candidates = engine.getSpecificConverters().getCandidates(sourceClass,
+                targetClass);
+        if (candidates.size() > 1) {
+            report.addAmbiguous(path, sourceType, targetType, candidates.stream()
+                    .map(item -> item.getClass().getName()).collect(Collectors.joining(", ")));
+        }
+        if (candidates.isEmpty() && engine.getSpecificConverters().getConverter(sourceClass, targetClass) == null
+                && engine.getDynamicConverters().getConverter(sourceClass, targetClass) == null) {
+            report.addUnsupported(path, sourceType, targetType, "no converter");
+        }
+    }
+
+    private void checkInstantiable(Type sourceType, Type targetType, Class<?> targetClass, String path) {
+        if (targetClass.isInterface() || Modifier.isAbstract(targetClass.getModifiers())
+                || (Types.getConstructorIfAvailable(targetClass) == null
+                && ConstructorInstantiator.forClass(targetClass) == null)) {
+            report.addUnsupported(path, sourceType, targetType, "no public no-arg or named-parameter constructor");
+        }
+    }
+
+    private static Type elementType(Type beanType, Type type, Class<?> clazz) {
+        return clazz.isArray() ? Types.getArrayComponentType(type, beanType)
+                : Types.getCollectionItemType(beanType, type);
+    }
+
+    private static Type componentType(Type beanType, Type type) {
+        if (type instanceof TypeVariable && beanType != null) {
+            return Types.getComponentType(beanType, type);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,114 @@
+package com.sprint.common.converter;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 转换预热报告
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class PrepareReport {
+
+    /* 已解析的类型对数量 */
+    private int preparedCount;
+    private long elapsedNanos;
+    private final List<Issue> unsupported = new ArrayList<>();
+    private final List<Issue> ambiguous = new ArrayList<>();
+
+    void incrementPrepared() {
+        preparedCount++;
+    }
+
+    void addElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos += elapsedNanos;
+    }
+
+    void addUnsupported(String path, Type sourceType, Type targetType, String message) {
+        unsupported.add(new Issue(path, sourceType, targetType, message));
+    }
+
+    void addAmbiguous(String path, Type sourceType, Type targetType, String message) {
+        ambiguous.add(new Issue(path, sourceType, targetType, message));
+    }
+
+    /**
+     * 是否全部支持
+     *
+     * @return 是否全部支持
+     */
+    public boolean isReady() {
+        return unsupported.isEmpty();
+    }
+
+    public int getPreparedCount() {
+        return preparedCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public List<Issue> getUnsupported() {
+        return Collections.unmodifiableList(unsupported);
+    }
+
+    public List<Issue> getAmbiguous() {
+        return Collections.unmodifiableList(ambiguous);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PrepareReport{prepared=").append(preparedCount)
+                .append(", elapsedMillis=").append(elapsedNanos / 1_000_000);
+        if (!unsupported.isEmpty()) {
+            builder.append(", unsupported=").append(unsupported);
+        }
+        if (!ambiguous.isEmpty()) {
+            builder.append(", ambiguous=").append(ambiguous);
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 问题项
+     */
+    public static final class Issue {
+
+        private final String path;
+        private final Type sourceType;
+        private final Type targetType;
+        private final String message;
+
+        Issue(String path, Type sourceType, Type targetType, String message) {
+            this.path = path;
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.message = message;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Type getSourceType() {
+            return sourceType;
+        }
+
+        public Type getTargetType() {
+            return targetType;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return path + ": " + sourceType.getTypeName() + " -> " + targetType.getTypeName() + " (" + message + ")";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sprint.common.converter;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * 源类型与目标类型
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class TypePair {
+
+    private final Type sourceType;
+    private final Type targetType;
+
+    private TypePair(Type sourceType, Type targetType) {
+        this.sourceType = Objects.requireNonNull(sourceType);
+        this.targetType = Objects.requireNonNull(targetType);
+    }
+
+    public static TypePair of(Type sourceType, Type targetType) {
+        return new TypePair(sourceType, targetType);
+    }
+
+    public static TypePair of(TypeReference<?> sourceType, TypeReference<?> targetType) {
+        return new TypePair(sourceType.getType(), targetType.getType());
+    }
+
+    public Type getSourceType() {
+        return sourceType;
+    }
+
+    public Type getTargetType() {
+        return targetType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TypePair)) {
+            return false;
+        }
+        TypePair that = (TypePair) o;
+        return sourceType.equals(that.sourceType) && targetType.equals(that.targetType);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * sourceType.hashCode() + targetType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return sourceType.getTypeName() + " -> " + targetType.getTypeName();
+    }
+}
@@ -0,0 +1,260 @@
+package com.sprint.common.converter;
+
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * 预热文件
+ * <p>
+ * 纯文本，首行为版本，其后每行一个类型对：源类型、制表符、目标类型。
+ * 类型名为 Class#getName，泛型写作 java.util.List&lt;java.lang.String&gt;，泛型数组写作 X[]，通配符按上界记录。
+ * 版本不符的文件忽略，无法解析的行跳过。
+ * </p>
+ *
+ * <pre>
+ * # sprint-converter warm profile v1
+ * java.util.Arrays$ArrayList	java.util.List&lt;java.lang.String&gt;
+ * </pre>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class WarmProfile {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmProfile.class);
+
+    static final String HEADER = "# sprint-converter warm profile v1";
+
+    private static final char SEPARATOR = '\t';
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> primitive : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class,
+                long.class, float.class, double.class, void.class}) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    /* 预热文件 -> 记录到该文件的引擎，每个文件一个关闭钩子；弱引用，不阻止引擎回收 */
+    private static final Map<Path, Set<ConverterEngine>> RECORDERS = new HashMap<>();
+
+    private WarmProfile() {
+    }
+
+    /**
+     * 进程退出时将引擎解析过的类型对写入预热文件，同一文件的多个引擎合并写入一次
+     *
+     * @param file   文件
+     * @param engine 引擎
+     */
+    static synchronized void saveOnExit(Path file, ConverterEngine engine) {
+        Path key = file.toAbsolutePath().normalize();
+        Set<ConverterEngine> engines = RECORDERS.get(key);
+        if (engines == null) {
+            engines = Collections.newSetFromMap(new WeakHashMap<>());
+            RECORDERS.put(key, engines);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> save(key), "converter-warm-profile"));
+        }
+        engines.add(engine);
+    }
+
+    private static void save(Path file) {
+        Set<TypePair> pairs = new LinkedHashSet<>();
+        synchronized (WarmProfile.class) {
+            Set<ConverterEngine> engines = RECORDERS.get(file);
+            if (engines.isEmpty()) {
+                // 引擎均已回收，保留原文件
+                return;
+            }
+            for (ConverterEngine engine : engines) {
+                pairs.addAll(engine.getRecordedPairs());
+            }
+        }
+        try {
+            write(file, pairs);
+        } catch (IOException e) {
+            logger.warn("save warm profile {} error message : {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 写入预热文件，先写临时文件再替换
+     *
+     * @param file  文件
+     * @param pairs 类型对，不可记录的类型（类型变量、匿名类等）忽略
+     * @throws IOException 写入异常
+     */
+    public static void write(Path file, Collection<TypePair> pairs) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (TypePair pair : pairs) {
+                    if (isRecordable(pair.getSourceType()) && isRecordable(pair.getTargetType())) {
+                        writer.write(format(pair.getSourceType()) + SEPARATOR + format(pair.getTargetType()));
+                        writer.newLine();
+                    }
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 读取预热文件
+     *
+     * @param file   文件
+     * @param loader 加载类型的ClassLoader
+     * @return 类型对，文件不存在或版本不符时为空
+     * @throws IOException 读取异常
+     */
+    public static List<TypePair> read(Path file, ClassLoader loader) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyList();
+        }
+        List<TypePair> pairs = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                logger.warn("ignore warm profile {} with unknown version", file);
+                return Collections.emptyList();
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(SEPARATOR);
+                if (line.isEmpty() || line.charAt(0) == '#' || separator < 0) {
+                    continue;
+                }
+                try {
+                    pairs.add(TypePair.of(parse(line.substring(0, separator), loader),
+                            parse(line.substring(separator + 1), loader)));
+                } catch (ClassNotFoundException | LinkageError | IllegalArgumentException e) {
+                    logger.debug("skip warm profile line {} error message : {}", line, e.getMessage());
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * 是否可记录：不含类型变量，且类型可按名称加载
+     *
+     * @param type 类型
+     * @return true 可记录
+     */
+    static boolean isRecordable(Type type) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            return !clazz.isAnonymousClass() && !clazz.isLocalClass() && !clazz.isSynthetic()
+                    && clazz.getName().indexOf('/') < 0;
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (!isRecordable(parameterizedType.getRawType())) {
+                return false;
+            }
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                if (!isRecordable(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (type instanceof GenericArrayType) {
+            return isRecordable(((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            return isRecordable(((WildcardType) type).getUpperBounds()[0]);
+        }
+        return false;
+    }
+
+    static String format(Type type) {
+        if (type instanceof Class) {
+            return ((Class<?>) type).getName();
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            StringJoiner joiner = new StringJoiner(",", format(parameterizedType.getRawType()) + "<", ">");
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                joiner.add(format(argument));
+            }
+            return joiner.toString();
+        } else if (type instanceof GenericArrayType) {
+            return format(((GenericArrayType) type).getGenericComponentType()) + "[]";
+        } else if (type instanceof WildcardType) {
+            return format(((WildcardType) type).getUpperBounds()[0]);
+        }
+        throw new IllegalArgumentException("unsupported type " + type);
+    }
+
+    static Type parse(String text, ClassLoader loader) throws ClassNotFoundException {
+        int[] position = {0};
+        Type type = parse(text, position, loader);
+        if (position[0] != text.length()) {
+            throw new IllegalArgumentException("illegal type " + text);
+        }
+        return type;
+    }
+
+    private static Type parse(String text, int[] position, ClassLoader loader) throws ClassNotFoundException {
+        int start = position[0];
+        int end = start;
+        while (end < text.length() && "<>,[]".indexOf(text.charAt(end)) < 0
+                || end < text.length() && text.charAt(end) == '[' && (end == start || text.charAt(end - 1) == '[')) {
+            // Class#getName 的数组名以 [ 开头，如 [Ljava.lang.String;
+            end++;
+        }
+        if (end == start) {
+            throw new IllegalArgumentException("illegal type " + text);
+        }
+        String name = text.substring(start, end);
+        Class<?> primitive = PRIMITIVES.get(name);
+        Type type = primitive != null ? primitive : Class.forName(name, false, loader);
+        position[0] = end;
+        if (end < text.length() && text.charAt(end) == '<') {
+            List<Type> arguments = new ArrayList<>();
+            do {
+                position[0]++;
+                arguments.add(parse(text, position, loader));
+            } while (position[0] < text.length() && text.charAt(position[0]) == ',');
+            if (position[0] >= text.length() || text.charAt(position[0]) != '>') {
+                throw new IllegalArgumentException("illegal type " + text);
+            }
+            position[0]++;
+            type = Types.makeType((Class<?>) type, arguments.toArray(new Type[0]), null);
+        }
+        while (text.startsWith("[]", position[0])) {
+            position[0] += 2;
+            type = type instanceof Class ? Array.newInstance((Class<?>) type, 0).getClass()
+                    : Types.makeArrayType(type);
+        }
+        return type;
+    }
+}
@@ -0,0 +1,130 @@
+package com.sprint.common.converter.conversion.dynamic;
+
+import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.util.ClassPairTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 动态转换器注册表
+ * <p>
+ * 每个 ConverterEngine 持有一份，写时复制，通过volatile引用发布快照。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class DynamicConverterRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamicConverterRegistry.class);
+
+    private static final DynamicConverter<?>[] EMPTY_DYNAMIC_CONVERTERS = new DynamicConverter<?>[0];
+
+    /* 转换器注册表快照 */
+    private volatile Snapshot snapshot = new Snapshot(0L, EMPTY_DYNAMIC_CONVERTERS);
+
+    public void loadContainedConverters(Class<?> containerClass) {
+        Class<?>[] classes = containerClass.getClasses();
+        for (Class<?> clz : classes) {
+            if (!Modifier.isAbstract(clz.getModifiers())) {
+                try {
+                    Object value = clz.getConstructor().newInstance();
+                    if (value instanceof DynamicConverter) {
+                        registerDynamicConverter((DynamicConverter<?>) value);
+                    }
+                } catch (Exception e) {
+                    logger.error("Error load converter ", e);
+                }
+            }
+        }
+    }
+
+    public synchronized void registerDynamicConverter(DynamicConverter<?> dynamicConverter) {
+        Objects.requireNonNull(dynamicConverter);
+        Snapshot current = snapshot;
+        DynamicConverter<?>[] converters = Arrays.copyOf(current.converters, current.converters.length + 1);
+        converters[current.converters.length] = dynamicConverter;
+        Arrays.sort(converters, Comparator.comparingInt(DynamicConverter::sort));
+        snapshot = new Snapshot(current.epoch + 1, converters);
+    }
+
+    /**
+     * 获取已注册的转换器（按sort排序）
+     *
+     * @return 转换器
+     */
+    public List<DynamicConverter<?>> getDynamicConverters() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.converters));
+    }
+
+    /**
+     * 注册表版本号，每次注册转换器递增
+     *
+     * @return 版本号
+     */
+    public long getEpoch() {
+        return snapshot.epoch;
+    }
+
+    /**
+     * 是否支持
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @return 是否支持
+     */
+    public boolean support(Class<?> sourceClass, Class<?> targetClass) {
+        for (DynamicConverter<?> dynamicConverter : snapshot.converters) {
+            if (dynamicConverter.support(sourceClass, targetClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取转换器
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @param <S>         s
+     * @param <T>         t
+     * @return converter
+     */
+    public <S, T> Converter<S, T> getConverter(Class<S> sourceClass, Class<T> targetClass) {
+        return Converter.doEnforce(snapshot.table.get(sourceClass, targetClass));
+    }
+
+    /**
+     * 注册表快照：转换器与基于其解析的类型对缓存同属一个版本，注册新转换器时整体替换
+     */
+    private static final class Snapshot {
+
+        private final long epoch;
+        private final DynamicConverter<?>[] converters;
+        private final ClassPairTable<Converter<Object, Object>> table = new ClassPairTable<>(this::resolveConverter);
+
+        Snapshot(long epoch, DynamicConverter<?>[] converters) {
+            this.epoch = epoch;
+            this.converters = converters;
+        }
+
+        private Converter<Object, Object> resolveConverter(Class<?> sourceClass, Class<?> targetClass) {
+            for (DynamicConverter<?> converter : converters) {
+                if (converter.support(sourceClass, targetClass)) {
+                    DynamicConverter<Object> dynamicConverter = Converter.doEnforce(converter);
+                    Class<Object> finalTargetClass = Converter.doEnforce(targetClass);
+                    return (source) -> dynamicConverter.convert(source, finalTargetClass);
+                }
+            }
+            return null;
+        }
+    }
+}
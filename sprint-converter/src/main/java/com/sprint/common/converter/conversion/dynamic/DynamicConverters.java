@@ -0,0 +1,65 @@
+package com.sprint.common.converter.conversion.dynamic;
+
+import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.ConverterEngine;
+
+/**
+ * 动态属性转换器
+ * <p>
+ * 静态入口，委托给当前 ConverterEngine 的注册表。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @version 1.0
+ * @since 2021年02月05日
+ */
+public final class DynamicConverters {
+
+    private DynamicConverters() {
+    }
+
+    private static DynamicConverterRegistry registry() {
+        return ConverterEngine.current().getDynamicConverters();
+    }
+
+    public static void loadContainedConverters(Class<?> containerClass) {
+        registry().loadContainedConverters(containerClass);
+    }
+
+    public static void registerDynamicConverter(DynamicConverter<?> dynamicConverter) {
+        registry().registerDynamicConverter(dynamicConverter);
+    }
+
+    /**
+     * 注册表版本号，每次注册转换器递增
+     *
+     * @return 版本号
+     */
+    public static long getEpoch() {
+        return registry().getEpoch();
+    }
+
+    /**
+     * 是否支持
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @return 是否支持
+     */
+    public static boolean support(Class<?> sourceClass, Class<?> targetClass) {
+        return registry().support(sourceClass, targetClass);
+    }
+
+    /**
+     * 获取转换器
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @param <S>         s
+     * @param <T>         t
+     * @return converter
+     */
+    public static <S, T> Converter<S, T> getConverter(Class<S> sourceClass, Class<T> targetClass) {
+        return registry().getConverter(sourceClass, targetClass);
+    }
+}
@@ -0,0 +1,108 @@
+package com.sprint.common.converter.conversion.nested;
+
+import com.sprint.common.converter.exception.ConversionException;
+import com.sprint.common.converter.exception.NotSupportConvertException;
+import com.sprint.common.converter.util.Types;
+
+import java.lang.reflect.Type;
+
+/**
+ * bean属性转换器
+ *
+ * @author hongfeng.li
+ * @version 1.0
+ * @since 2021年02月05日
+ */
+public interface NestedConverter {
+
+    /**
+     * 不支持转换的返回标记
+     */
+    Object NO_MATCH = new Object() {
+        @Override
+        public String toString() {
+            return "NO_MATCH";
+        }
+    };
+
+    /**
+     * 排序
+     *
+     * @return 序号
+     */
+    default int sort() {
+        return 0;
+    }
+
+    /**
+     * 是否支持
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @return 是否支持
+     */
+    boolean support(Class<?> sourceClass, Class<?> targetClass);
+
+
+    /**
+     * 是否支持源对象
+     *
+     * @param sourceValue 值
+     * @return 对象
+     */
+    default boolean preCheckSourceVal(Object sourceValue) {
+        return true;
+    }
+
+    /**
+     * 转化
+     *
+     * @param sourceValue     原值
+     * @param targetBeanType  bean类型
+     * @param targetFiledType 属性类型
+     * @return 目标值
+     * @throws ConversionException e
+     */
+    Object convert(Object sourceValue, Type targetBeanType, Type targetFiledType) throws ConversionException;
+
+    /**
+     * 尝试转化
+     * <p>
+     * 不支持时返回 {@link #NO_MATCH}，不抛出异常；默认实现先校验源对象再调用 {@link #convert(Object, Type, Type)}
+     * </p>
+     *
+     * @param sourceValue     原值
+     * @param targetBeanType  bean类型
+     * @param targetFiledType 属性类型
+     * @return 目标值或 {@link #NO_MATCH}
+     * @throws ConversionException e
+     */
+    default Object tryConvert(Object sourceValue, Type targetBeanType, Type targetFiledType) throws ConversionException {
+        if (!preCheckSourceVal(sourceValue)) {
+            return NO_MATCH;
+        }
+        return convert(sourceValue, targetBeanType, targetFiledType);
+    }
+
+    /**
+     * 由 {@link #tryConvert(Object, Type, Type)} 推导的转化
+     * <p>
+     * 覆写了 tryConvert 的转换器在 convert 中调用，结果为 {@link #NO_MATCH} 时抛出不支持异常，避免维护两套转换逻辑
+     * </p>
+     *
+     * @param sourceValue     原值
+     * @param targetBeanType  bean类型
+     * @param targetFiledType 属性类型
+     * @return 目标值
+     * @throws ConversionException e
+     */
+    default Object convertMatched(Object sourceValue, Type targetBeanType, Type targetFiledType)
+            throws ConversionException {
+        Object value = tryConvert(sourceValue, targetBeanType, targetFiledType);
+        if (value == NO_MATCH) {
+            throw new NotSupportConvertException(sourceValue == null ? Types.OBJECT_CLASS : sourceValue.getClass(),
+                    Types.extractClass(targetFiledType, targetBeanType));
+        }
+        return value;
+    }
+}
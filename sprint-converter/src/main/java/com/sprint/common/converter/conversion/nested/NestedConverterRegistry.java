@@ -0,0 +1,349 @@
+package com.sprint.common.converter.conversion.nested;
+
+import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.ErrorHandler;
+import com.sprint.common.converter.TypePair;
+import com.sprint.common.converter.exception.ConversionException;
+import com.sprint.common.converter.exception.NotSupportConvertException;
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 嵌套属性转换器注册表
+ * <p>
+ * 每个 ConverterEngine 持有一份，写时复制，通过volatile引用发布快照；转换计划缓存归属于快照。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class NestedConverterRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(NestedConverterRegistry.class);
+
+    private static final NestedConverter DEFAULT_NESTED_CONVERTER = new NestedConverters.DefaultNestedConverter();
+    private static final NestedConverter[] EMPTY_NESTED_CONVERTERS = new NestedConverter[0];
+    /* 记录的类型对上限 */
+    private static final int MAX_RECORDED_PAIRS = 4096;
+
+    /* 转换计划缓存初始容量 */
+    private final int planCacheSize;
+    /* 转换器抛出异常时直接失败，不再尝试后续转换器 */
+    private final boolean failFast;
+
+    /* 转换器注册表快照 */
+    private volatile Snapshot snapshot;
+    private final LongAdder planCacheHits = new LongAdder();
+    private final LongAdder planCacheMisses = new LongAdder();
+    /* 已解析的类型对，未开启记录时为null */
+    private final Set<TypePair> recordedPairs;
+
+    public NestedConverterRegistry() {
+        this(256, false);
+    }
+
+    public NestedConverterRegistry(int planCacheSize, boolean failFast) {
+        this(planCacheSize, failFast, false);
+    }
+
+    public NestedConverterRegistry(int planCacheSize, boolean failFast, boolean recordPairs) {
+        this.planCacheSize = planCacheSize;
+        this.failFast = failFast;
+        this.recordedPairs = recordPairs ? ConcurrentHashMap.newKeySet() : null;
+        this.snapshot = new Snapshot(0L, EMPTY_NESTED_CONVERTERS, planCacheSize);
+    }
+
+    public void loadContainedConverters(Class<?> loader) {
+        Class<?>[] classes = loader.getClasses();
+        for (Class<?> clz : classes) {
+            if (!Modifier.isAbstract(clz.getModifiers())) {
+                try {
+                    Object value = clz.getConstructor().newInstance();
+                    if (value instanceof NestedConverter) {
+                        addPropertyConverter((NestedConverter) value);
+                    }
+                } catch (Exception e) {
+                    logger.error("Error Load Property Converter ", e);
+                }
+            }
+        }
+    }
+
+    public synchronized void addPropertyConverter(NestedConverter nestedConverter) {
+        Objects.requireNonNull(nestedConverter);
+        Snapshot current = snapshot;
+        NestedConverter[] converters = Arrays.copyOf(current.converters, current.converters.length + 1);
+        converters[current.converters.length] = nestedConverter;
+        Arrays.sort(converters, Comparator.comparingInt(NestedConverter::sort));
+        snapshot = new Snapshot(current.epoch + 1, converters, planCacheSize);
+    }
+
+    /**
+     * 获取已注册的转换器（按sort排序）
+     *
+     * @return 转换器
+     */
+    public List<NestedConverter> getPropertyConverters() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.converters));
+    }
+
+    /**
+     * 注册表版本号，每次注册转换器递增
+     *
+     * @return 版本号
+     */
+    public long getEpoch() {
+        return snapshot.epoch;
+    }
+
+    /**
+     * 清空转换计划缓存
+     */
+    public synchronized void clearPlanCache() {
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(current.epoch, current.converters, planCacheSize);
+    }
+
+    /**
+     * 转换计划缓存命中次数
+     *
+     * @return 命中次数
+     */
+    public long getPlanCacheHits() {
+        return planCacheHits.sum();
+    }
+
+    /**
+     * 转换计划缓存未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getPlanCacheMisses() {
+        return planCacheMisses.sum();
+    }
+
+    /**
+     * 转换计划缓存数量
+     *
+     * @return 缓存数量
+     */
+    public int getPlanCacheSize() {
+        return snapshot.plans.size();
+    }
+
+    /**
+     * 已解析的类型对（转换计划未命中时记录，依赖Bean类型的类型变量不记录）
+     *
+     * @return 类型对，未开启记录时为空
+     */
+    public Set<TypePair> getRecordedPairs() {
+        return recordedPairs == null ? Collections.emptySet() : Collections.unmodifiableSet(recordedPairs);
+    }
+
+    /**
+     * 获取转换器
+     *
+     * @param sourceClass    sourceClass
+     * @param targetBeanType targetBeanType
+     * @param targetType     targetType
+     * @param <S>            s
+     * @param <T>            t
+     * @return converter
+     */
+    public <S, T> Converter<S, T> getConverter(Class<?> sourceClass, Type targetBeanType, Type targetType) {
+        return Converter.doEnforce(doGetConverter(sourceClass, targetBeanType, targetType));
+    }
+
+    /**
+     * 获取转换器
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @param <S>         s
+     * @param <T>         t
+     * @return converter
+     */
+    public <S, T> Converter<S, T> getConverter(Class<?> sourceClass, Class<?> targetClass) {
+        return Converter.doEnforce(doGetConverter(sourceClass, null, targetClass));
+    }
+
+    private Converter<?, ?> doGetConverter(Class<?> sourceClass, Type targetBeanType, Type targetType) {
+        Snapshot current = snapshot;
+        PlanKey key = new PlanKey(sourceClass, targetBeanType, targetType);
+        ConversionPlan plan = current.plans.get(key);
+        if (plan != null) {
+            planCacheHits.increment();
+            return plan;
+        }
+        planCacheMisses.increment();
+        if (recordedPairs != null && recordedPairs.size() < MAX_RECORDED_PAIRS
+                && !(targetType instanceof TypeVariable)) {
+            recordedPairs.add(TypePair.of(sourceClass, targetType));
+        }
+        plan = createPlan(current.converters, sourceClass, targetBeanType, targetType);
+        ConversionPlan exist = current.plans.putIfAbsent(key, plan);
+        return exist == null ? plan : exist;
+    }
+
+    private ConversionPlan createPlan(NestedConverter[] converters, Class<?> sourceClass, Type targetBeanType,
+                                      Type targetType) {
+        Class<?> targetClass = Types.extractClass(targetType, targetBeanType);
+        Class<?> finalTargetClass = Types.isObjectType(targetClass) ? sourceClass : targetClass;
+        List<NestedConverter> nestedConverters = new ArrayList<>();
+        for (NestedConverter nestedConverter : converters) {
+            if (nestedConverter.support(sourceClass, finalTargetClass)) {
+                nestedConverters.add(nestedConverter);
+            }
+        }
+        return new ConversionPlan(targetBeanType, targetType, nestedConverters.toArray(EMPTY_NESTED_CONVERTERS),
+                failFast);
+    }
+
+    /**
+     * 转换
+     *
+     * @param value          value
+     * @param targetBeanType targetBeanType
+     * @param targetType     targetType
+     * @param <S>            s
+     * @param <T>            t
+     * @return target
+     * @throws ConversionException e
+     */
+    public <S, T> T convert(S value, Type targetBeanType, Type targetType) throws ConversionException {
+        if (value == null) {
+            return null;
+        }
+        Class<?> sourceClass = value.getClass();
+        Converter<S, T> converter = getConverter(sourceClass, targetBeanType, targetType);
+        if (converter == null) {
+            throw new NotSupportConvertException(sourceClass, Types.extractClass(targetType, targetBeanType));
+        }
+        return converter.convert(value);
+    }
+
+    /**
+     * 转换
+     *
+     * @param value          value
+     * @param targetBeanType targetBeanType
+     * @param targetType     targetType
+     * @param errorHandler   errorHandler
+     * @param <S>            s
+     * @param <T>            t
+     * @return target
+     * @throws ConversionException e
+     */
+    public <S, T> T convert(S value, Type targetBeanType, Type targetType, ErrorHandler<S, T> errorHandler) throws ConversionException {
+        if (value == null) {
+            return null;
+        }
+        Class<?> sourceClass = value.getClass();
+        Converter<S, T> converter = getConverter(sourceClass, targetBeanType, targetType);
+        if (converter == null) {
+            throw new NotSupportConvertException(sourceClass, Types.extractClass(targetType, targetBeanType));
+        }
+        return converter.onError(errorHandler).convert(value);
+    }
+
+    /**
+     * 注册表快照：转换器与基于其计算的转换计划缓存同属一个版本，注册新转换器时整体替换
+     */
+    private static final class Snapshot {
+
+        private final long epoch;
+        private final NestedConverter[] converters;
+        /* 转换计划缓存 (sourceClass, targetBeanType, targetType) -> 已过滤排序的转换链 */
+        private final ConcurrentReferenceHashMap<PlanKey, ConversionPlan> plans;
+
+        Snapshot(long epoch, NestedConverter[] converters, int planCacheSize) {
+            this.epoch = epoch;
+            this.converters = converters;
+            this.plans = new ConcurrentReferenceHashMap<>(planCacheSize);
+        }
+    }
+
+    /**
+     * 转换计划缓存key
+     */
+    private static final class PlanKey {
+
+        private final Class<?> sourceClass;
+        private final Type targetBeanType;
+        private final Type targetType;
+        private final int hash;
+
+        PlanKey(Class<?> sourceClass, Type targetBeanType, Type targetType) {
+            this.sourceClass = sourceClass;
+            this.targetBeanType = targetBeanType;
+            this.targetType = targetType;
+            this.hash = 31 * (31 * Objects.hashCode(sourceClass) + Objects.hashCode(targetBeanType))
+                    + Objects.hashCode(targetType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey that = (PlanKey) o;
+            return sourceClass == that.sourceClass && Objects.equals(targetBeanType, that.targetBeanType)
+                    && Objects.equals(targetType, that.targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 转换计划：已过滤排序的转换链
+     */
+    private static final class ConversionPlan implements Converter<Object, Object> {
+
+        private final Type targetBeanType;
+        private final Type targetType;
+        private final NestedConverter[] nestedConverters;
+        private final boolean failFast;
+
+        ConversionPlan(Type targetBeanType, Type targetType, NestedConverter[] nestedConverters, boolean failFast) {
+            this.targetBeanType = targetBeanType;
+            this.targetType = targetType;
+            this.nestedConverters = nestedConverters;
+            this.failFast = failFast;
+        }
+
+        @Override
+        public Object convert(Object source) throws ConversionException {
+            for (NestedConverter nestedConverter : nestedConverters) {
+                Object target;
+                try {
+                    target = nestedConverter.tryConvert(source, targetBeanType, targetType);
+                } catch (ConversionException e) {
+                    if (failFast) {
+                        throw e;
+                    }
+                    logger.warn("this converter not support, use next converter");
+                    continue;
+                }
+                if (target != NestedConverter.NO_MATCH) {
+                    return target;
+                }
+            }
+            return DEFAULT_NESTED_CONVERTER.convert(source, targetBeanType, targetType);
+        }
+    }
+}
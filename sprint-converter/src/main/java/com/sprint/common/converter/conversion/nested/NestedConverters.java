@@ -2,21 +2,23 @@ package com.sprint.common.converter.conversion.nested;
 
 import com.sprint.common.converter.BaseConverter;
 import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.ConverterEngine;
 import com.sprint.common.converter.ErrorHandler;
 import com.sprint.common.converter.conversion.nested.bean.Beans;
+import com.sprint.common.converter.conversion.specific.SpecificConverters;
 import com.sprint.common.converter.exception.ConversionException;
-import com.sprint.common.converter.exception.NotSupportConvertException;
 import com.sprint.common.converter.util.Types;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 嵌套属性转换
+ * <p>
+ * 静态入口，委托给当前 ConverterEngine 的注册表。
+ * </p>
  *
  * @author hongfeng.li
  * @version 1.0
@@ -24,38 +26,71 @@ import java.util.stream.Collectors;
  */
 public final class NestedConverters {
 
-    private static final Logger logger = LoggerFactory.getLogger(NestedConverters.class);
-
-    private static final List<NestedConverter> NESTED_CONVERTERS = new LinkedList<>();
-    private static final NestedConverter DEFAULT_NESTED_CONVERTER = new DefaultNestedConverter();
-
+    private NestedConverters() {
+    }
 
-    static {
-        ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        for (NestedConverterLoader nestedConverterLoader : ServiceLoader.load(NestedConverterLoader.class, loader)) {
-            nestedConverterLoader.loadConverters();
-        }
+    private static NestedConverterRegistry registry() {
+        return ConverterEngine.current().getNestedConverters();
     }
 
     public static void loadContainedConverters(Class<?> loader) {
-        Class<?>[] classes = loader.getClasses();
-        for (Class<?> clz : classes) {
-            if (!Modifier.isAbstract(clz.getModifiers())) {
-                try {
-                    Object value = clz.getConstructor().newInstance();
-                    if (value instanceof NestedConverter) {
-                        addPropertyConverter((NestedConverter) value);
-                    }
-                } catch (Exception e) {
-                    logger.error("Error Load Property Converter ", e);
-                }
-            }
-        }
+        registry().loadContainedConverters(loader);
     }
 
     public static void addPropertyConverter(NestedConverter nestedConverter) {
-        NESTED_CONVERTERS.add(nestedConverter);
-        NESTED_CONVERTERS.sort(Comparator.comparingInt(NestedConverter::sort));
+        registry().addPropertyConverter(nestedConverter);
+    }
+
+    /**
+     * 获取已注册的转换器（按sort排序）
+     *
+     * @return 转换器
+     */
+    public static List<NestedConverter> getPropertyConverters() {
+        return registry().getPropertyConverters();
+    }
+
+    /**
+     * 注册表版本号，每次注册转换器递增
+     *
+     * @return 版本号
+     */
+    public static long getEpoch() {
+        return registry().getEpoch();
+    }
+
+    /**
+     * 清空转换计划缓存
+     */
+    public static void clearPlanCache() {
+        registry().clearPlanCache();
+    }
+
+    /**
+     * 转换计划缓存命中次数
+     *
+     * @return 命中次数
+     */
+    public static long getPlanCacheHits() {
+        return registry().getPlanCacheHits();
+    }
+
+    /**
+     * 转换计划缓存未命中次数
+     *
+     * @return 未命中次数
+     */
+    public static long getPlanCacheMisses() {
+        return registry().getPlanCacheMisses();
+    }
+
+    /**
+     * 转换计划缓存数量
+     *
+     * @return 缓存数量
+     */
+    public static int getPlanCacheSize() {
+        return registry().getPlanCacheSize();
     }
 
     /**
@@ -69,8 +104,7 @@ public final class NestedConverters {
      * @return converter
      */
     public static <S, T> Converter<S, T> getConverter(Class<?> sourceClass, Type targetBeanType, Type targetType) {
-        Converter<?, ?> stConverter = doGetConverter(sourceClass, targetBeanType, targetType);
-        return stConverter.enforce();
+        return registry().getConverter(sourceClass, targetBeanType, targetType);
     }
 
     /**
@@ -83,31 +117,7 @@ public final class NestedConverters {
      * @return converter
      */
     public static <S, T> Converter<S, T> getConverter(Class<?> sourceClass, Class<?> targetClass) {
-        return doGetConverter(sourceClass, null, targetClass).enforce();
-    }
-
-    private static Converter<?, ?> doGetConverter(Class<?> sourceClass, Type targetBeanType, Type targetType) {
-        Class<?> targetClass = Types.extractClass(targetType, targetBeanType);
-        Class<?> finalTargetClass = Types.isObjectType(targetClass) ? sourceClass : targetClass;
-        List<NestedConverter> nestedConverters = NESTED_CONVERTERS.stream()
-                .filter(item -> item.support(sourceClass, finalTargetClass)).collect(Collectors.toList());
-        Converter<Object, Object> defaultConverter = (source) -> DEFAULT_NESTED_CONVERTER.convert(source, targetBeanType, targetType);
-        if (nestedConverters.size() == 0) {
-            return defaultConverter;
-        }
-
-        return (source) -> {
-            for (NestedConverter nestedConverter : nestedConverters) {
-                if (nestedConverter.preCheckSourceVal(source)) {
-                    try {
-                        return nestedConverter.convert(source, targetBeanType, targetType);
-                    } catch (ConversionException e) {
-                        logger.warn("this converter not support, use next converter");
-                    }
-                }
-            }
-            return DEFAULT_NESTED_CONVERTER.convert(source, targetBeanType, targetType);
-        };
+        return registry().getConverter(sourceClass, targetClass);
     }
 
     /**
@@ -122,15 +132,7 @@ public final class NestedConverters {
      * @throws ConversionException e
      */
     public static <S, T> T convert(S value, Type targetBeanType, Type targetType) throws ConversionException {
-        if (value == null) {
-            return null;
-        }
-        Class<?> sourceClass = value.getClass();
-        Converter<S, T> converter = getConverter(sourceClass, targetBeanType, targetType);
-        if (converter == null) {
-            throw new NotSupportConvertException(sourceClass, Types.extractClass(targetType, targetBeanType));
-        }
-        return converter.convert(value);
+        return registry().convert(value, targetBeanType, targetType);
     }
 
     /**
@@ -146,15 +148,7 @@ public final class NestedConverters {
      * @throws ConversionException e
      */
     public static <S, T> T convert(S value, Type targetBeanType, Type targetType, ErrorHandler<S, T> errorHandler) throws ConversionException {
-        if (value == null) {
-            return null;
-        }
-        Class<?> sourceClass = value.getClass();
-        Converter<S, T> converter = getConverter(sourceClass, targetBeanType, targetType);
-        if (converter == null) {
-            throw new NotSupportConvertException(sourceClass, Types.extractClass(targetType, targetBeanType));
-        }
-        return converter.onError(errorHandler).convert(value);
+        return registry().convert(value, targetBeanType, targetType, errorHandler);
     }
 
     /**
@@ -194,6 +188,12 @@ public final class NestedConverters {
 
         private Object castBaseOrBase(Class<?> sourceClassType, Class<?> targetClassType, Object sourceValue, Type targetType) throws ConversionException {
             if (Types.isBean(sourceClassType) && Types.isBean(targetClassType)) {
+                // 优先使用注册的（如编译期生成的）Bean转换器
+                Converter<Object, Object> converter = targetType instanceof Class
+                        ? Converter.doEnforce(SpecificConverters.getConverter(sourceClassType, targetClassType)) : null;
+                if (converter != null) {
+                    return converter.convert(sourceValue);
+                }
                 return Beans.cast(sourceValue, targetType, true);
             } else {
                 return BaseConverter.convert(sourceValue, targetClassType);
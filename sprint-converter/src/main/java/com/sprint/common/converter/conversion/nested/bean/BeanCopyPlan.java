@@ -0,0 +1,341 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.ConverterEngine;
+import com.sprint.common.converter.conversion.nested.NestedConverterRegistry;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.exception.ConversionException;
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Bean属性拷贝计划
+ * <p>
+ * 按 (源类型, 目标类型, 忽略属性, merge/convert) 缓存已配对的读写属性，拷贝时不再按属性名查找；
+ * 每个属性记录最近一次运行时值类型解析出的嵌套转换器，注册表变更后重新解析。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class BeanCopyPlan {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeanCopyPlan.class);
+
+    private static final ConcurrentReferenceHashMap<Key, BeanCopyPlan> PLAN_CACHE =
+            new ConcurrentReferenceHashMap<>(256);
+
+    private final boolean merge;
+    private final boolean convert;
+    private final PropertyCopy[] propertyCopies;
+    /* 目标属性名，与增量拷贝返回的位下标对应 */
+    private final String[] propertyNames;
+
+    private BeanCopyPlan(Class<?> sourceClass, Class<?> targetClass, Type targetType, boolean merge, boolean convert,
+                         String[] ignoreProperties) {
+        this.merge = merge;
+        this.convert = convert;
+        List<PropertyAccess[]> propertyAccesses = Properties.getCommonPropertyAccess(sourceClass, targetClass,
+                ignoreProperties);
+        this.propertyCopies = new PropertyCopy[propertyAccesses.size()];
+        this.propertyNames = new String[propertyCopies.length];
+        for (int i = 0; i < propertyCopies.length; i++) {
+            PropertyAccess[] pair = propertyAccesses.get(i);
+            propertyCopies[i] = new PropertyCopy(pair[0], pair[1], targetType, convert);
+            propertyNames[i] = pair[1].getName();
+        }
+    }
+
+    /**
+     * 获取拷贝计划
+     *
+     * @param sourceClass      源类型
+     * @param targetClass      目标类型
+     * @param targetType       目标声明类型
+     * @param merge            是否合并属性
+     * @param convert          是否转化
+     * @param ignoreProperties 忽略属性
+     * @return 拷贝计划
+     */
+    static BeanCopyPlan forPair(Class<?> sourceClass, Class<?> targetClass, Type targetType, boolean merge,
+                                boolean convert, String[] ignoreProperties) {
+        Key key = new Key(sourceClass, targetClass, targetType, ignoreProperties, merge, convert);
+        BeanCopyPlan plan = PLAN_CACHE.get(key);
+        if (plan == null) {
+            plan = new BeanCopyPlan(sourceClass, targetClass, targetType, merge, convert, ignoreProperties);
+            BeanCopyPlan exist = PLAN_CACHE.putIfAbsent(new Key(sourceClass, targetClass, targetType,
+                    ignoreProperties.clone(), merge, convert), plan);
+            if (exist != null) {
+                plan = exist;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * 拷贝属性，单个属性失败时记录日志并继续
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    void copy(Object source, Object target) {
+        NestedConverterRegistry registry = convert ? ConverterEngine.current().getNestedConverters() : null;
+        for (PropertyCopy propertyCopy : propertyCopies) {
+            try {
+                Object value = propertyCopy.read.getValue(source);
+                if (merge && value == null) {
+                    continue;
+                }
+                propertyCopy.set(target, value, registry);
+            } catch (Exception ex) {
+                logger.warn("Could not set value of property '" + propertyCopy.write.getName()
+                        + "' from source to target [" + target.getClass() + "] error message : {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 增量拷贝属性：源属性为null时跳过，与目标当前值相同（同一对象，或不可变类型且equals）时不调用写方法，
+     * 先比较原值，再比较转换后的值
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @return 发生变更的属性
+     */
+    CopyChanges copyChanged(Object source, Object target) {
+        NestedConverterRegistry registry = convert ? ConverterEngine.current().getNestedConverters() : null;
+        BitSet changed = new BitSet(propertyCopies.length);
+        for (int i = 0; i < propertyCopies.length; i++) {
+            PropertyCopy propertyCopy = propertyCopies[i];
+            try {
+                Object value = propertyCopy.read.getValue(source);
+                if (value == null) {
+                    continue;
+                }
+                Object current = propertyCopy.write.isReadAccessible() ? propertyCopy.write.getValue(target) : null;
+                if (unchanged(value, current)) {
+                    continue;
+                }
+                Object targetValue = propertyCopy.targetValue(value, registry);
+                if (targetValue != null && !unchanged(targetValue, current)) {
+                    propertyCopy.write.setValue(target, targetValue);
+                    changed.set(i);
+                }
+            } catch (Exception ex) {
+                logger.warn("Could not set value of property '" + propertyCopy.write.getName()
+                        + "' from source to target [" + target.getClass() + "] error message : {}", ex.getMessage());
+            }
+        }
+        return new CopyChanges(propertyNames, changed);
+    }
+
+    /**
+     * 属性数量
+     *
+     * @return 已配对的属性数量
+     */
+    int size() {
+        return propertyCopies.length;
+    }
+
+    /**
+     * 源属性
+     *
+     * @param index 属性下标
+     * @return 读属性
+     */
+    PropertyAccess getReadPropertyAccess(int index) {
+        return propertyCopies[index].read;
+    }
+
+    /**
+     * 目标属性
+     *
+     * @param index 属性下标
+     * @return 写属性
+     */
+    PropertyAccess getWritePropertyAccess(int index) {
+        return propertyCopies[index].write;
+    }
+
+    /**
+     * 转换单个属性的非null值
+     *
+     * @param index 属性下标
+     * @param value 源属性值
+     * @return 写入值，无需写入时为null
+     * @throws ConversionException 转换异常
+     */
+    Object convert(int index, Object value) throws ConversionException {
+        NestedConverterRegistry registry = convert ? ConverterEngine.current().getNestedConverters() : null;
+        return propertyCopies[index].targetValue(value, registry);
+    }
+
+    /**
+     * 拷贝单个属性，异常抛出
+     *
+     * @param index  属性下标
+     * @param source 源对象
+     * @param target 目标对象
+     * @throws ConversionException 转换异常
+     */
+    void copy(int index, Object source, Object target) throws ConversionException {
+        PropertyCopy propertyCopy = propertyCopies[index];
+        Object value = propertyCopy.read.getValue(source);
+        if (merge && value == null) {
+            return;
+        }
+        NestedConverterRegistry registry = convert ? ConverterEngine.current().getNestedConverters() : null;
+        propertyCopy.set(target, value, registry);
+    }
+
+    /**
+     * 记录单个属性拷贝失败
+     *
+     * @param index       属性下标
+     * @param targetClass 目标类型
+     * @param ex          异常
+     */
+    void logError(int index, Class<?> targetClass, Throwable ex) {
+        logger.warn("Could not set value of property '" + propertyCopies[index].write.getName()
+                + "' from source to target [" + targetClass + "] error message : {}", ex.getMessage());
+    }
+
+    private static boolean unchanged(Object value, Object current) {
+        if (value == current) {
+            return true;
+        }
+        return current != null && value.getClass() == current.getClass() && isImmutable(value.getClass())
+                && value.equals(current);
+    }
+
+    /* 值语义的不可变类型，equals 比较代价低 */
+    private static boolean isImmutable(Class<?> clazz) {
+        return Types.isPrimitiveTypeOrWrapClass(clazz) || clazz == String.class || clazz.isEnum()
+                || clazz == BigDecimal.class || clazz == BigInteger.class || clazz == UUID.class
+                || clazz == Class.class || clazz.getName().startsWith("java.time.");
+    }
+
+    /**
+     * 单个属性的拷贝
+     */
+    private static final class PropertyCopy {
+
+        private final PropertyAccess read;
+        private final PropertyAccess write;
+        private final Type beanType;
+        private final Class<?> writeClass;
+        /* 最近一次解析的转换器 */
+        private volatile Resolved resolved;
+
+        PropertyCopy(PropertyAccess read, PropertyAccess write, Type targetType, boolean convert) {
+            this.read = read;
+            this.write = write;
+            this.beanType = targetType == null ? write.getBeanClass() : targetType;
+            this.writeClass = convert ? null : write.extractClass();
+        }
+
+        /* 转换后的写入值，无需写入时为null */
+        Object targetValue(Object value, NestedConverterRegistry registry) throws ConversionException {
+            if (registry != null) {
+                return converter(registry, value.getClass()).convert(value);
+            }
+            return writeClass.isInstance(value) ? value : null;
+        }
+
+        void set(Object target, Object value, NestedConverterRegistry registry) throws ConversionException {
+            if (value == null) {
+                write.setValue(target, null);
+            } else if (registry != null) {
+                Object targetValue = converter(registry, value.getClass()).convert(value);
+                if (targetValue != null) {
+                    write.setValue(target, targetValue);
+                }
+            } else if (writeClass.isInstance(value)) {
+                write.setValue(target, value);
+            }
+        }
+
+        private Converter<Object, Object> converter(NestedConverterRegistry registry, Class<?> valueClass) {
+            long epoch = registry.getEpoch();
+            Resolved current = resolved;
+            if (current != null && current.valueClass == valueClass && current.registry == registry
+                    && current.epoch == epoch) {
+                return current.converter;
+            }
+            Converter<Object, Object> converter = registry.getConverter(valueClass, beanType, write.getType());
+            resolved = new Resolved(registry, epoch, valueClass, converter);
+            return converter;
+        }
+    }
+
+    private static final class Resolved {
+
+        private final NestedConverterRegistry registry;
+        private final long epoch;
+        private final Class<?> valueClass;
+        private final Converter<Object, Object> converter;
+
+        Resolved(NestedConverterRegistry registry, long epoch, Class<?> valueClass,
+                 Converter<Object, Object> converter) {
+            this.registry = registry;
+            this.epoch = epoch;
+            this.valueClass = valueClass;
+            this.converter = converter;
+        }
+    }
+
+    /**
+     * 拷贝计划缓存key
+     */
+    private static final class Key {
+
+        private final Class<?> sourceClass;
+        private final Class<?> targetClass;
+        private final Type targetType;
+        private final String[] ignoreProperties;
+        private final boolean merge;
+        private final boolean convert;
+        private final int hash;
+
+        Key(Class<?> sourceClass, Class<?> targetClass, Type targetType, String[] ignoreProperties, boolean merge,
+            boolean convert) {
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+            this.targetType = targetType;
+            this.ignoreProperties = ignoreProperties;
+            this.merge = merge;
+            this.convert = convert;
+            int hash = 31 * sourceClass.hashCode() + targetClass.hashCode();
+            hash = 31 * hash + Objects.hashCode(targetType);
+            hash = 31 * hash + Arrays.hashCode(ignoreProperties);
+            this.hash = 31 * (31 * hash + (merge ? 1 : 0)) + (convert ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return sourceClass == that.sourceClass && targetClass == that.targetClass && merge == that.merge
+                    && convert == that.convert && Objects.equals(targetType, that.targetType)
+                    && Arrays.equals(ignoreProperties, that.ignoreProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
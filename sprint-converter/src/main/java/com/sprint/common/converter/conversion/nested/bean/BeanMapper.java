@@ -0,0 +1,201 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.TypeReference;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccessors;
+import com.sprint.common.converter.util.Assert;
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import com.sprint.common.converter.util.Types;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Bean映射器
+ * <p>
+ * 按 (源类型, 目标类型) 编译一次：目标对象通过生成的构造器实例化（无无参构造方法时按构造参数名一次性传入属性值），
+ * 属性拷贝由运行时生成的映射类逐个直接调用读方法、转换、写方法完成，属性配对遵循 PropertyInfo 的命名与读写限制。
+ * 无法生成映射类时按拷贝计划拷贝；源对象类型与编译时不一致或目标无法直接实例化时，退回通用路径。
+ * </p>
+ *
+ * <pre>
+ * BeanMapper&lt;Student, Student2&gt; mapper = BeanMapper.of(Student.class, Student2.class);
+ * Student2 student2 = mapper.map(student);
+ * </pre>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class BeanMapper<S, T> {
+
+    private static final String[] STRING_ARRAY = new String[0];
+
+    private static final ConcurrentReferenceHashMap<Key, BeanMapper<?, ?>> MAPPER_CACHE =
+            new ConcurrentReferenceHashMap<>(256);
+
+    private final Class<?> sourceClass;
+    private final Type targetType;
+    private final Class<T> targetClass;
+    private final Supplier<T> instantiator;
+    /* 无无参构造方法时按构造参数实例化 */
+    private final ConstructorInstantiator constructorInstantiator;
+    private final BeanCopyPlan copyPlan;
+    /* 生成的映射类，无法生成时为null */
+    private final BiConsumer<Object, Object> generated;
+
+    @SuppressWarnings("unchecked")
+    private BeanMapper(Class<?> sourceClass, Type targetType) {
+        this.sourceClass = sourceClass;
+        this.targetType = targetType;
+        this.targetClass = (Class<T>) Types.extractClass(targetType);
+        this.instantiator = PropertyAccessors.instantiator(targetClass);
+        this.constructorInstantiator = instantiator == null ? ConstructorInstantiator.forClass(targetClass) : null;
+        // Map按属性名处理，不编译拷贝计划
+        this.copyPlan = Types.isMap(sourceClass) || Types.isMap(targetClass) ? null
+                : BeanCopyPlan.forPair(sourceClass, targetClass, targetType, true, true, STRING_ARRAY);
+        this.generated = copyPlan == null ? null : BeanMapperGenerator.generate(sourceClass, targetClass, copyPlan);
+    }
+
+    /**
+     * 获取映射器
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param <S>         s
+     * @param <T>         t
+     * @return 映射器
+     */
+    public static <S, T> BeanMapper<S, T> of(Class<S> sourceClass, Class<T> targetClass) {
+        return of(sourceClass, (Type) targetClass);
+    }
+
+    /**
+     * 获取映射器
+     *
+     * @param sourceClass 源类型
+     * @param targetType  目标类型
+     * @param <S>         s
+     * @param <T>         t
+     * @return 映射器
+     */
+    public static <S, T> BeanMapper<S, T> of(Class<S> sourceClass, TypeReference<T> targetType) {
+        return of(sourceClass, targetType.getType());
+    }
+
+    /**
+     * 预热：生成映射器（含映射类、构造参数实例化），并解析 Beans.copyProperties 默认使用的拷贝计划
+     *
+     * @param sourceClass 源类型
+     * @param targetType  目标类型
+     */
+    public static void prepare(Class<?> sourceClass, Type targetType) {
+        BeanMapper<?, ?> mapper = of(sourceClass, targetType);
+        if (mapper.copyPlan != null) {
+            BeanCopyPlan.forPair(sourceClass, mapper.targetClass, null, true, true, STRING_ARRAY);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S, T> BeanMapper<S, T> of(Class<?> sourceClass, Type targetType) {
+        Assert.notNull(sourceClass, "sourceClass can't be null");
+        Assert.notNull(targetType, "targetType can't be null");
+        Key key = new Key(sourceClass, targetType);
+        BeanMapper<?, ?> mapper = MAPPER_CACHE.get(key);
+        if (mapper == null) {
+            mapper = new BeanMapper<>(sourceClass, targetType);
+            BeanMapper<?, ?> exist = MAPPER_CACHE.putIfAbsent(key, mapper);
+            if (exist != null) {
+                mapper = exist;
+            }
+        }
+        return (BeanMapper<S, T>) mapper;
+    }
+
+    /**
+     * 映射为新的目标对象
+     *
+     * @param source 源对象
+     * @return 目标对象，源对象为null返回null
+     * @throws BeansException 实例化异常
+     */
+    @SuppressWarnings("unchecked")
+    public T map(S source) throws BeansException {
+        if (source == null) {
+            return null;
+        }
+        T target;
+        if (instantiator != null) {
+            target = instantiator.get();
+        } else if (constructorInstantiator != null) {
+            target = (T) constructorInstantiator.newInstance(source, targetType);
+            if (constructorInstantiator.isComplete()) {
+                return target;
+            }
+        } else {
+            target = Beans.instance(targetClass);
+        }
+        map(source, target);
+        return target;
+    }
+
+    /**
+     * 映射到已有目标对象，源属性为null时不覆盖
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     */
+    public void map(S source, T target) {
+        Assert.notNull(source, "source con't be null");
+        Assert.notNull(target, "target con't be null");
+        if (copyPlan == null || source.getClass() != sourceClass || target.getClass() != targetClass) {
+            Beans.copyProperties(source, target, targetType, true, true, STRING_ARRAY);
+        } else if (generated != null) {
+            generated.accept(source, target);
+        } else {
+            copyPlan.copy(source, target);
+        }
+    }
+
+    /**
+     * 是否使用生成的映射类
+     *
+     * @return 已生成映射类返回true
+     */
+    public boolean isGenerated() {
+        return generated != null;
+    }
+
+    /**
+     * 映射器缓存key
+     */
+    private static final class Key {
+
+        private final Class<?> sourceClass;
+        private final Type targetType;
+        private final int hash;
+
+        Key(Class<?> sourceClass, Type targetType) {
+            this.sourceClass = sourceClass;
+            this.targetType = targetType;
+            this.hash = 31 * sourceClass.hashCode() + targetType.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return sourceClass == that.sourceClass && Objects.equals(targetType, that.targetType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
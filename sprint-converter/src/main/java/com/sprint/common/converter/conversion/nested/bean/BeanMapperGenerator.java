@@ -0,0 +1,557 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.exception.ConversionException;
+import com.sprint.common.converter.exception.ConversionExceptionWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Bean映射类生成
+ * <p>
+ * 按拷贝计划为 (源类型, 目标类型) 生成一个实现 BiConsumer 的类，每个属性直接调用读方法、转换、调用写方法，
+ * 不经过反射与属性循环；转换仍由拷贝计划按运行时值类型解析，源属性为null或转换结果为null时不写入。
+ * 读写方法不可直接调用的属性（非公共、经成员变量访问、类型对本类加载器不可见）在生成的代码中委托给拷贝计划。
+ * 单个属性异常时记录日志并继续，与拷贝计划一致。
+ * </p>
+ * <p>
+ * 生成的类定义在独立的子类加载器中，映射器回收后可一并卸载；类文件版本为49，无需生成栈映射帧。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class BeanMapperGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeanMapperGenerator.class);
+
+    private static final String PACKAGE = "com/sprint/common/converter/generated/";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    /* 属性过多时方法体可能超过64KB，不生成 */
+    private static final int MAX_PROPERTIES = 1024;
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String FUNCTION = "java/util/function/Function";
+    private static final String BI_CONSUMER = "java/util/function/BiConsumer";
+    private static final String OBJ_INT_CONSUMER = "java/util/function/ObjIntConsumer";
+    private static final String CONVERTERS_DESC = "[Ljava/util/function/Function;";
+    private static final String FALLBACKS_DESC = "[Ljava/util/function/BiConsumer;";
+    private static final String ERRORS_DESC = "Ljava/util/function/ObjIntConsumer;";
+
+    private static final Map<Class<?>, Character> PRIMITIVE_DESCRIPTORS = new HashMap<>();
+    private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>();
+
+    static {
+        Class<?>[] primitives = {boolean.class, byte.class, char.class, short.class, int.class, long.class,
+                float.class, double.class, void.class};
+        Class<?>[] wrappers = {Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class,
+                Float.class, Double.class, Void.class};
+        String descriptors = "ZBCSIJFDV";
+        for (int i = 0; i < primitives.length; i++) {
+            PRIMITIVE_DESCRIPTORS.put(primitives[i], descriptors.charAt(i));
+            WRAPPERS.put(primitives[i], wrappers[i]);
+        }
+    }
+
+    private BeanMapperGenerator() {
+    }
+
+    /**
+     * 生成映射类并实例化
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param copyPlan    拷贝计划
+     * @return 映射逻辑，无法生成时返回null
+     */
+    static BiConsumer<Object, Object> generate(Class<?> sourceClass, Class<?> targetClass, BeanCopyPlan copyPlan) {
+        int size = copyPlan.size();
+        if (size > MAX_PROPERTIES || !isCallable(sourceClass) || !isCallable(targetClass)) {
+            return null;
+        }
+        String className = PACKAGE + "BeanMapper$" + SEQUENCE.incrementAndGet();
+        Function<?, ?>[] converters = new Function<?, ?>[size];
+        BiConsumer<?, ?>[] fallbacks = new BiConsumer<?, ?>[size];
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            converters[i] = value -> {
+                try {
+                    return copyPlan.convert(index, value);
+                } catch (ConversionException e) {
+                    throw ConversionExceptionWrapper.wrapper(e);
+                }
+            };
+            fallbacks[i] = (source, target) -> {
+                try {
+                    copyPlan.copy(index, source, target);
+                } catch (ConversionException e) {
+                    throw ConversionExceptionWrapper.wrapper(e);
+                }
+            };
+        }
+        ObjIntConsumer<Throwable> errors = (ex, index) -> copyPlan.logError(index, targetClass, ex);
+        try {
+            byte[] bytes = new ClassFile(className).write(sourceClass, targetClass, copyPlan);
+            Class<?> mapperClass = new GeneratedClassLoader(BeanMapperGenerator.class.getClassLoader())
+                    .define(className.replace('/', '.'), bytes);
+            @SuppressWarnings("unchecked")
+            BiConsumer<Object, Object> mapper = (BiConsumer<Object, Object>) mapperClass
+                    .getConstructor(Function[].class, BiConsumer[].class, ObjIntConsumer.class)
+                    .newInstance(converters, fallbacks, errors);
+            return mapper;
+        } catch (IOException | ReflectiveOperationException | LinkageError e) {
+            logger.debug("generate bean mapper {} -> {} failed, use copy plan", sourceClass, targetClass, e);
+            return null;
+        }
+    }
+
+    /* 生成的代码可直接调用：公共读方法 → 公共写方法，且涉及的类型均对本类加载器可见 */
+    private static boolean isDirect(PropertyAccess read, PropertyAccess write) {
+        Method readMethod = read.getReadMethod();
+        Method writeMethod = write.getWriteMethod();
+        return readMethod != null && writeMethod != null && isCallable(readMethod) && isCallable(writeMethod)
+                && isVisible(readMethod.getReturnType()) && isVisible(writeMethod.getParameterTypes()[0]);
+    }
+
+    private static boolean isCallable(Method method) {
+        return Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static boolean isCallable(Class<?> clazz) {
+        return Modifier.isPublic(clazz.getModifiers()) && !clazz.isArray() && !clazz.isPrimitive()
+                && isVisible(clazz);
+    }
+
+    private static boolean isVisible(Class<?> clazz) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, BeanMapperGenerator.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static String internalName(Class<?> clazz) {
+        return clazz.isArray() ? descriptor(clazz) : clazz.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> clazz) {
+        if (clazz.isArray()) {
+            return clazz.getName().replace('.', '/');
+        }
+        if (clazz.isPrimitive()) {
+            return String.valueOf(PRIMITIVE_DESCRIPTORS.get(clazz));
+        }
+        return "L" + internalName(clazz) + ";";
+    }
+
+    private static String methodDescriptor(Method method) {
+        StringBuilder builder = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            builder.append(descriptor(parameterType));
+        }
+        return builder.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static int slots(Class<?> clazz) {
+        return clazz == void.class ? 0 : clazz == long.class || clazz == double.class ? 2 : 1;
+    }
+
+    /**
+     * 定义生成类的类加载器，每个映射类一个
+     */
+    private static final class GeneratedClassLoader extends ClassLoader {
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * 映射类的类文件
+     */
+    private static final class ClassFile {
+
+        private static final int ACC_PUBLIC = 0x0001;
+        private static final int ACC_PRIVATE = 0x0002;
+        private static final int ACC_FINAL = 0x0010;
+        private static final int ACC_SUPER = 0x0020;
+
+        private static final int ALOAD_0 = 0x2A;
+        private static final int ALOAD_1 = 0x2B;
+        private static final int ALOAD_2 = 0x2C;
+        private static final int ALOAD_3 = 0x2D;
+        private static final int ASTORE_3 = 0x4E;
+        private static final int AALOAD = 0x32;
+        private static final int POP = 0x57;
+        private static final int POP2 = 0x58;
+        private static final int BIPUSH = 0x10;
+        private static final int SIPUSH = 0x11;
+        private static final int ICONST_0 = 0x03;
+        private static final int IFNULL = 0xC6;
+        private static final int GOTO = 0xA7;
+        private static final int RETURN = 0xB1;
+        private static final int GETFIELD = 0xB4;
+        private static final int PUTFIELD = 0xB5;
+        private static final int INVOKEVIRTUAL = 0xB6;
+        private static final int INVOKESPECIAL = 0xB7;
+        private static final int INVOKESTATIC = 0xB8;
+        private static final int INVOKEINTERFACE = 0xB9;
+        private static final int CHECKCAST = 0xC0;
+
+        private final String className;
+        private final ConstantPool pool = new ConstantPool();
+        /* 每个属性一组 [start, end, handler]，捕获 java.lang.Exception */
+        private int[] handlers;
+
+        ClassFile(String className) {
+            this.className = className;
+        }
+
+        byte[] write(Class<?> sourceClass, Class<?> targetClass, BeanCopyPlan copyPlan) throws IOException {
+            int thisClass = pool.classRef(className);
+            int superClass = pool.classRef(OBJECT);
+            int biConsumer = pool.classRef(BI_CONSUMER);
+            byte[] init = constructor();
+            byte[] accept = accept(sourceClass, targetClass, copyPlan);
+            int codeName = pool.utf8("Code");
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(49);
+            // 常量池在方法体生成后写出
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream bodyOut = new DataOutputStream(body);
+            bodyOut.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            bodyOut.writeShort(thisClass);
+            bodyOut.writeShort(superClass);
+            bodyOut.writeShort(1);
+            bodyOut.writeShort(biConsumer);
+            bodyOut.writeShort(3);
+            writeField(bodyOut, "converters", CONVERTERS_DESC);
+            writeField(bodyOut, "fallbacks", FALLBACKS_DESC);
+            writeField(bodyOut, "errors", ERRORS_DESC);
+            bodyOut.writeShort(2);
+            writeMethod(bodyOut, "<init>", "(" + CONVERTERS_DESC + FALLBACKS_DESC + ERRORS_DESC + ")V", codeName,
+                    2, 4, init, new int[0]);
+            writeMethod(bodyOut, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", codeName, 4, 4, accept,
+                    handlers);
+            bodyOut.writeShort(0);
+
+            pool.writeTo(out);
+            body.writeTo(out);
+            return bytes.toByteArray();
+        }
+
+        private void writeField(DataOutputStream out, String name, String descriptor) throws IOException {
+            out.writeShort(ACC_PRIVATE | ACC_FINAL);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(0);
+        }
+
+        private void writeMethod(DataOutputStream out, String name, String descriptor, int codeName, int maxStack,
+                                 int maxLocals, byte[] code, int[] exceptionTable) throws IOException {
+            int exception = exceptionTable.length == 0 ? 0 : pool.classRef("java/lang/Exception");
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(codeName);
+            int entries = exceptionTable.length / 3;
+            out.writeInt(2 + 2 + 4 + code.length + 2 + entries * 8 + 2);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(entries);
+            for (int i = 0; i < exceptionTable.length; i += 3) {
+                out.writeShort(exceptionTable[i]);
+                out.writeShort(exceptionTable[i + 1]);
+                out.writeShort(exceptionTable[i + 2]);
+                out.writeShort(exception);
+            }
+            out.writeShort(0);
+        }
+
+        private byte[] constructor() {
+            Code code = new Code();
+            code.op(ALOAD_0);
+            code.op(INVOKESPECIAL).u2(pool.methodRef(OBJECT, "<init>", "()V", false));
+            code.op(ALOAD_0).op(ALOAD_1).op(PUTFIELD).u2(pool.fieldRef(className, "converters", CONVERTERS_DESC));
+            code.op(ALOAD_0).op(ALOAD_2).op(PUTFIELD).u2(pool.fieldRef(className, "fallbacks", FALLBACKS_DESC));
+            code.op(ALOAD_0).op(ALOAD_3).op(PUTFIELD).u2(pool.fieldRef(className, "errors", ERRORS_DESC));
+            code.op(RETURN);
+            return code.toByteArray();
+        }
+
+        /*
+         * 直接调用的属性：
+         *   value = box(source.getX()); if (value != null) { value = converters[i].apply(value);
+         *   if (value != null) target.setX(unbox(value)); }
+         * 其余属性：fallbacks[i].accept(source, target)
+         * 异常：errors.accept(e, i)
+         */
+        private byte[] accept(Class<?> sourceClass, Class<?> targetClass, BeanCopyPlan copyPlan) {
+            Code code = new Code();
+            List<Integer> table = new ArrayList<>();
+            for (int i = 0; i < copyPlan.size(); i++) {
+                int start = code.position();
+                PropertyAccess read = copyPlan.getReadPropertyAccess(i);
+                PropertyAccess write = copyPlan.getWritePropertyAccess(i);
+                List<Integer> skips = new ArrayList<>(2);
+                if (isDirect(read, write)) {
+                    Method readMethod = read.getReadMethod();
+                    Method writeMethod = write.getWriteMethod();
+                    code.op(ALOAD_1).op(CHECKCAST).u2(pool.classRef(internalName(sourceClass)));
+                    invoke(code, sourceClass, readMethod);
+                    box(code, readMethod.getReturnType());
+                    code.op(ASTORE_3).op(ALOAD_3).op(IFNULL);
+                    skips.add(code.reserveJump());
+                    code.op(ALOAD_0).op(GETFIELD).u2(pool.fieldRef(className, "converters", CONVERTERS_DESC));
+                    push(code, i);
+                    code.op(AALOAD).op(ALOAD_3);
+                    code.op(INVOKEINTERFACE).u2(pool.methodRef(FUNCTION, "apply",
+                            "(Ljava/lang/Object;)Ljava/lang/Object;", true)).u1(2).u1(0);
+                    code.op(ASTORE_3).op(ALOAD_3).op(IFNULL);
+                    skips.add(code.reserveJump());
+                    Class<?> parameterType = writeMethod.getParameterTypes()[0];
+                    code.op(ALOAD_2).op(CHECKCAST).u2(pool.classRef(internalName(targetClass)));
+                    code.op(ALOAD_3);
+                    unbox(code, parameterType);
+                    invoke(code, targetClass, writeMethod);
+                    Class<?> returnType = writeMethod.getReturnType();
+                    if (returnType != void.class) {
+                        code.op(slots(returnType) == 2 ? POP2 : POP);
+                    }
+                } else {
+                    code.op(ALOAD_0).op(GETFIELD).u2(pool.fieldRef(className, "fallbacks", FALLBACKS_DESC));
+                    push(code, i);
+                    code.op(AALOAD).op(ALOAD_1).op(ALOAD_2);
+                    code.op(INVOKEINTERFACE).u2(pool.methodRef(BI_CONSUMER, "accept",
+                            "(Ljava/lang/Object;Ljava/lang/Object;)V", true)).u1(3).u1(0);
+                }
+                int end = code.position();
+                code.op(GOTO);
+                skips.add(code.reserveJump());
+                int handler = code.position();
+                code.op(ASTORE_3);
+                code.op(ALOAD_0).op(GETFIELD).u2(pool.fieldRef(className, "errors", ERRORS_DESC));
+                code.op(ALOAD_3);
+                push(code, i);
+                code.op(INVOKEINTERFACE).u2(pool.methodRef(OBJ_INT_CONSUMER, "accept", "(Ljava/lang/Object;I)V",
+                        true)).u1(3).u1(0);
+                for (int skip : skips) {
+                    code.patchJump(skip);
+                }
+                table.add(start);
+                table.add(end);
+                table.add(handler);
+            }
+            code.op(RETURN);
+            handlers = table.stream().mapToInt(Integer::intValue).toArray();
+            return code.toByteArray();
+        }
+
+        private void invoke(Code code, Class<?> owner, Method method) {
+            boolean isInterface = owner.isInterface();
+            code.op(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL)
+                    .u2(pool.methodRef(internalName(owner), method.getName(), methodDescriptor(method), isInterface));
+            if (isInterface) {
+                int slots = 1;
+                for (Class<?> parameterType : method.getParameterTypes()) {
+                    slots += slots(parameterType);
+                }
+                code.u1(slots).u1(0);
+            }
+        }
+
+        private void box(Code code, Class<?> type) {
+            if (type.isPrimitive()) {
+                Class<?> wrapper = WRAPPERS.get(type);
+                code.op(INVOKESTATIC).u2(pool.methodRef(internalName(wrapper), "valueOf",
+                        "(" + descriptor(type) + ")" + descriptor(wrapper), false));
+            }
+        }
+
+        private void unbox(Code code, Class<?> type) {
+            if (type.isPrimitive()) {
+                Class<?> wrapper = WRAPPERS.get(type);
+                code.op(CHECKCAST).u2(pool.classRef(internalName(wrapper)));
+                code.op(INVOKEVIRTUAL).u2(pool.methodRef(internalName(wrapper), type.getName() + "Value",
+                        "()" + descriptor(type), false));
+            } else if (type != Object.class) {
+                code.op(CHECKCAST).u2(pool.classRef(internalName(type)));
+            }
+        }
+
+        private void push(Code code, int value) {
+            if (value <= 5) {
+                code.op(ICONST_0 + value);
+            } else if (value <= Byte.MAX_VALUE) {
+                code.op(BIPUSH).u1(value);
+            } else {
+                code.op(SIPUSH).u2(value);
+            }
+        }
+    }
+
+    /**
+     * 方法字节码
+     */
+    private static final class Code {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        /* 跳转指令位置 -> 偏移量待回填 */
+        private final Map<Integer, Integer> jumps = new HashMap<>();
+        private byte[] patched;
+
+        Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        Code u1(int value) {
+            bytes.write(value);
+            return this;
+        }
+
+        Code u2(int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+
+        int position() {
+            return bytes.size();
+        }
+
+        /* 预留刚写入的跳转指令的偏移量，返回指令位置 */
+        int reserveJump() {
+            int opcodePosition = bytes.size() - 1;
+            u2(0);
+            return opcodePosition;
+        }
+
+        /* 跳转到当前位置 */
+        void patchJump(int opcodePosition) {
+            jumps.put(opcodePosition, bytes.size() - opcodePosition);
+        }
+
+        byte[] toByteArray() {
+            if (patched == null) {
+                patched = bytes.toByteArray();
+                for (Map.Entry<Integer, Integer> jump : jumps.entrySet()) {
+                    patched[jump.getKey() + 1] = (byte) (jump.getValue() >>> 8);
+                    patched[jump.getKey() + 2] = jump.getValue().byteValue();
+                }
+            }
+            return patched;
+        }
+    }
+
+    /**
+     * 常量池
+     */
+    private static final class ConstantPool {
+
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int INTERFACE_METHOD_REF = 11;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            Integer index = indexes.get("U" + value);
+            if (index != null) {
+                return index;
+            }
+            try {
+                out.writeByte(UTF8);
+                out.writeUTF(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return add("U" + value);
+        }
+
+        int classRef(String internalName) {
+            return entry("C" + internalName, CLASS, utf8(internalName), -1);
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return entry("F" + owner + '.' + name + descriptor, FIELD_REF, classRef(owner),
+                    nameAndType(name, descriptor));
+        }
+
+        int methodRef(String owner, String name, String descriptor, boolean isInterface) {
+            return entry((isInterface ? "I" : "M") + owner + '.' + name + descriptor,
+                    isInterface ? INTERFACE_METHOD_REF : METHOD_REF, classRef(owner), nameAndType(name, descriptor));
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            return entry("N" + name + ':' + descriptor, NAME_AND_TYPE, utf8(name), utf8(descriptor));
+        }
+
+        private int entry(String key, int tag, int first, int second) {
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                out.writeByte(tag);
+                out.writeShort(first);
+                if (second >= 0) {
+                    out.writeShort(second);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return add(key);
+        }
+
+        private int add(String key) {
+            int index = count++;
+            indexes.put(key, index);
+            return index;
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+    }
+}
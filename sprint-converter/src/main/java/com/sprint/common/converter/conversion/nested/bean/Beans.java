@@ -1,27 +1,29 @@
 package com.sprint.common.converter.conversion.nested.bean;
 
-import com.sprint.common.converter.Converter;
 import com.sprint.common.converter.TypeReference;
 import com.sprint.common.converter.conversion.nested.NestedConverters;
-import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
 import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccessors;
 import com.sprint.common.converter.exception.ConversionException;
 import com.sprint.common.converter.util.Assert;
 import com.sprint.common.converter.util.Types;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Bean操作工具
@@ -36,12 +38,99 @@ public final class Beans {
 
     private static final String[] STRING_ARRAY = new String[0];
 
+    private static final int UNKNOWN_SIZE = -1;
+
     private static final Pattern POINT_PATTERN = Pattern.compile("\\.(\\w)");
 
-    private static final Function<String, String[]> splitter = (str) -> str == null ? new String[]{}
-            : str.split("\\.");
-    private static final Function<String[], String> joiner = (array) -> array == null ? null
-            : Stream.of(array).filter(Objects::nonNull).collect(Collectors.joining("."));
+    /* 按类型选定一次的实例化方式：公共类的公共无参构造方法使用生成的构造器，否则使用缓存的反射构造方法 */
+    private static final ClassValue<Supplier<?>> INSTANTIATORS = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            Supplier<?> instantiator = PropertyAccessors.instantiator(type);
+            if (instantiator != null) {
+                // 生成的构造器直接抛出构造方法的异常，包括受检异常
+                return () -> {
+                    try {
+                        return instantiator.get();
+                    } catch (Exception e) {
+                        throw new BeansException("instance error", e);
+                    }
+                };
+            }
+            Constructor<?> constructor;
+            try {
+                if (Modifier.isAbstract(type.getModifiers())) {
+                    throw new InstantiationException(type.getName());
+                }
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return () -> {
+                    throw new BeansException("instance error", e);
+                };
+            }
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (InvocationTargetException e) {
+                    throw new BeansException("instance error", e.getCause());
+                } catch (ReflectiveOperationException e) {
+                    throw new BeansException("instance error", e);
+                }
+            };
+        }
+    };
+
+    /* 按类型选定一次的集合创建方式，参数为预期元素数量 */
+    private static final ClassValue<IntFunction<Collection<?>>> COLLECTION_FACTORIES =
+            new ClassValue<IntFunction<Collection<?>>>() {
+                @Override
+                protected IntFunction<Collection<?>> computeValue(Class<?> rawClass) {
+                    if (rawClass == ArrayList.class || (List.class.isAssignableFrom(rawClass)
+                            && !LinkedList.class.isAssignableFrom(rawClass)
+                            && Types.getConstructorIfAvailable(rawClass) == null)) {
+                        return size -> size < 0 ? new ArrayList<>() : new ArrayList<>(size);
+                    } else if (rawClass == HashSet.class || (Set.class.isAssignableFrom(rawClass)
+                            && !LinkedHashSet.class.isAssignableFrom(rawClass)
+                            && Types.getConstructorIfAvailable(rawClass) == null)) {
+                        return size -> size < 0 ? new HashSet<>() : new HashSet<>(capacity(size));
+                    } else if (rawClass == LinkedHashSet.class || (LinkedHashSet.class.isAssignableFrom(rawClass)
+                            && Types.getConstructorIfAvailable(rawClass) == null)) {
+                        return size -> size < 0 ? new LinkedHashSet<>() : new LinkedHashSet<>(capacity(size));
+                    } else if (Types.getConstructorIfAvailable(rawClass) != null) {
+                        Supplier<?> instantiator = INSTANTIATORS.get(rawClass);
+                        return size -> (Collection<?>) instantiator.get();
+                    } else if (Queue.class.isAssignableFrom(rawClass) || LinkedList.class.isAssignableFrom(rawClass)
+                            || rawClass.isInterface()) {
+                        return size -> new LinkedList<>();
+                    } else {
+                        return size -> (Collection<?>) instance(rawClass);
+                    }
+                }
+            };
+
+    /* 按类型选定一次的Map创建方式，参数为预期元素数量 */
+    private static final ClassValue<IntFunction<Map<?, ?>>> MAP_FACTORIES = new ClassValue<IntFunction<Map<?, ?>>>() {
+        @Override
+        protected IntFunction<Map<?, ?>> computeValue(Class<?> mapClass) {
+            if (mapClass.isInterface() || mapClass == LinkedHashMap.class) {
+                return size -> size < 0 ? new LinkedHashMap<>() : new LinkedHashMap<>(capacity(size));
+            } else if (mapClass == HashMap.class) {
+                return size -> size < 0 ? new HashMap<>() : new HashMap<>(capacity(size));
+            } else if (mapClass == ConcurrentHashMap.class) {
+                return size -> size < 0 ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(capacity(size));
+            } else if (Types.getConstructorIfAvailable(mapClass) != null) {
+                Supplier<?> instantiator = INSTANTIATORS.get(mapClass);
+                return size -> (Map<?, ?>) instantiator.get();
+            } else if (HashMap.class.isAssignableFrom(mapClass)) {
+                return size -> size < 0 ? new HashMap<>() : new HashMap<>(capacity(size));
+            } else if (ConcurrentMap.class.isAssignableFrom(mapClass)) {
+                return size -> size < 0 ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(capacity(size));
+            } else {
+                return size -> new LinkedHashMap<>();
+            }
+        }
+    };
 
     private Beans() {
     }
@@ -70,11 +159,7 @@ public final class Beans {
                 throw new BeansException("Specified class [" + clazz + "] is an interface");
             }
         }
-        try {
-            return clazz.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new BeansException("instance error", e);
-        }
+        return (T) INSTANTIATORS.get(clazz).get();
     }
 
     /**
@@ -85,41 +170,29 @@ public final class Beans {
      * @return 实例化后的对象
      */
     public static <T> Collection<T> instanceCollection(Type type) {
+        return instanceCollection(type, UNKNOWN_SIZE);
+    }
+
+    /**
+     * 实例化集合对象，按预期元素数量预分配容量
+     *
+     * @param type         被实例化的类
+     * @param expectedSize 预期元素数量，小于0时使用默认容量
+     * @param <T>          类范型
+     * @return 实例化后的对象
+     */
+    public static <T> Collection<T> instanceCollection(Type type, int expectedSize) {
         Class<?> rawClass = Types.extractClass(type);
-        if (Types.getConstructorIfAvailable(rawClass) != null) {
-            return (Collection<T>) instance(rawClass);
-        }
-        if (List.class.isAssignableFrom(rawClass)) {
-            if (rawClass.isInterface()) {
-                return new ArrayList<>();
-            } else if (ArrayList.class.isAssignableFrom(rawClass)) {
-                return new ArrayList<>();
-            } else if (LinkedList.class.isAssignableFrom(rawClass)) {
-                return new LinkedList<>();
-            } else {
-                return new ArrayList<>();
-            }
-        } else if (Set.class.isAssignableFrom(rawClass)) {
-            if (LinkedHashSet.class.isAssignableFrom(rawClass)) {
-                return new LinkedHashSet<>();
-            } else if (EnumSet.class.isAssignableFrom(rawClass)) {
-                Type itemType;
-                if (type instanceof ParameterizedType) {
-                    itemType = ((ParameterizedType) type).getActualTypeArguments()[0];
-                } else {
-                    itemType = Types.OBJECT_CLASS;
-                }
-                return (Collection<T>) EnumSet.noneOf((Class<Enum>) itemType);
+        if (EnumSet.class.isAssignableFrom(rawClass)) {
+            Type itemType;
+            if (type instanceof ParameterizedType) {
+                itemType = ((ParameterizedType) type).getActualTypeArguments()[0];
             } else {
-                return new HashSet<>();
+                itemType = Types.OBJECT_CLASS;
             }
-        } else if (Queue.class.isAssignableFrom(rawClass)) {
-            return new LinkedList<>();
-        } else if (rawClass.isInterface()) {
-            return new LinkedList<>();
-        } else {
-            return (Collection<T>) instance(rawClass);
+            return (Collection<T>) EnumSet.noneOf((Class<Enum>) itemType);
         }
+        return (Collection<T>) COLLECTION_FACTORIES.get(rawClass).apply(expectedSize);
     }
 
     /**
@@ -131,21 +204,25 @@ public final class Beans {
      * @return map
      */
     public static <K, V> Map<K, V> instanceMap(Class<?> mapClass) {
-        Map<K, V> newMap;
-        if (mapClass.isInterface()) {
-            newMap = new LinkedHashMap<>();
-        } else if (Types.getConstructorIfAvailable(mapClass) != null) {
-            newMap = (Map<K, V>) instance(mapClass);
-        } else if (HashMap.class.isAssignableFrom(mapClass)) {
-            newMap = new HashMap<>();
-        } else if (ConcurrentMap.class.isAssignableFrom(mapClass)) {
-            newMap = new ConcurrentHashMap<>();
-        } else if (LinkedHashMap.class.isAssignableFrom(mapClass)) {
-            newMap = new LinkedHashMap<>();
-        } else {
-            newMap = new LinkedHashMap<>();
-        }
-        return newMap;
+        return instanceMap(mapClass, UNKNOWN_SIZE);
+    }
+
+    /**
+     * 创建一个Map，按预期元素数量预分配容量
+     *
+     * @param mapClass     mapClass
+     * @param expectedSize 预期元素数量，小于0时使用默认容量
+     * @param <K>          k
+     * @param <V>          v
+     * @return map
+     */
+    public static <K, V> Map<K, V> instanceMap(Class<?> mapClass, int expectedSize) {
+        return (Map<K, V>) MAP_FACTORIES.get(mapClass).apply(expectedSize);
+    }
+
+    /* 同 HashMap 默认负载因子下容纳 expectedSize 个元素不扩容的初始容量 */
+    private static int capacity(int expectedSize) {
+        return expectedSize < 3 ? expectedSize + 1 : (int) (expectedSize / 0.75f + 1.0f);
     }
 
     /**
@@ -221,59 +298,10 @@ public final class Beans {
      */
     public static void setProperty(Type objType, Object obj, String propertyName, Object value, boolean convert,
                                    boolean ignored) throws BeansException {
-        try {
-            String[] propertyCascade = splitter.apply(propertyName);
-            // 仅一级属性
-            if (propertyCascade.length == 1) {
-                PropertyAccess desc = CachedIntrospectionResults.forClass(obj.getClass())
-                        .getPropertyAccess(propertyName);
-                if (desc != null) {
-                    doSetProperty(objType, desc, obj, value, convert);
-                } else if (obj instanceof Map) {
-                    doSetMapProperty(objType, (Map<String, Object>) obj, propertyName, value, convert);
-                }
-            } else {// 多级属性设置
-                String property = propertyCascade[0];
-
-                Object back = getProperty(obj, property);
-                Type propertyBeanType = null;
-                PropertyAccess desc = CachedIntrospectionResults.forClass(obj.getClass()).getPropertyAccess(property);
-                if (desc != null) {
-                    propertyBeanType = desc.getType();
-                } else if (Types.isMap(obj.getClass())) {
-                    propertyBeanType = Types.getMapKVType(objType)[1];
-                }
-                // 如果该层级属性为null则实例化一个对象
-                if (back == null) {
-                    Class<?> propertyClass = Types.extractClass(propertyBeanType,
-                            objType == null ? obj.getClass() : objType);
-                    if (Types.isMap(propertyClass)) {
-                        back = instanceMap(propertyClass);
-                    } else if (Types.isCollection(propertyClass)) {
-                        back = instanceCollection(propertyClass);
-                    } else if (Types.isBean(propertyClass)) {
-                        back = instance(propertyClass);
-                    } else {
-                        back = new LinkedHashMap<>(1);
-                    }
-                    setProperty(objType, obj, property, back, false, ignored);
-                }
-                setProperty(propertyBeanType, back,
-                        joiner.apply(Arrays.copyOfRange(propertyCascade, 1, propertyCascade.length)), value, convert,
-                        ignored);
-            }
-        } catch (Exception ex) {
-            if (!ignored) {
-                throw new BeansException("Could not set value of property '" + propertyName
-                        + "' from source to target [" + obj.getClass() + "]", ex);
-            } else {
-                logger.warn("Could not set value of property '" + propertyName + "' from source to target ["
-                        + obj.getClass() + "] error message : {}", ex.getMessage());
-            }
-        }
+        PropertyPath.compile(propertyName).setValue(objType, obj, value, convert, ignored);
     }
 
-    private static void doSetProperty(Type beanType, PropertyAccess desc, Object obj, Object value, boolean convert)
+    static void doSetProperty(Type beanType, PropertyAccess desc, Object obj, Object value, boolean convert)
             throws ConversionException {
         if (value == null) {
             desc.setValue(obj, null);
@@ -292,7 +320,7 @@ public final class Beans {
         }
     }
 
-    private static void doSetMapProperty(Type beanType, Map<String, Object> map, String propertyName, Object value,
+    static void doSetMapProperty(Type beanType, Map<String, Object> map, String propertyName, Object value,
                                          boolean convert) throws ConversionException {
         if (value == null) {
             map.put(propertyName, null);
@@ -318,69 +346,7 @@ public final class Beans {
      * @return property
      */
     public static Object getProperty(Object obj, String propertyName) {
-        String[] propertyCascade = splitter.apply(propertyName);
-        if (propertyCascade.length == 1) {
-            if (obj instanceof Map) {
-                Map<?, ?> map = (Map<?, ?>) obj;
-                if (map.containsKey(propertyName)) {
-                    return map.get(propertyName);
-                } else {
-                    return doGetProperty(obj, propertyName);
-                }
-            } else {
-                return doGetProperty(obj, propertyName);
-            }
-        } else {
-            String property = propertyCascade[0];
-            Object back;
-            if (obj instanceof Map) {
-                Map<?, ?> map = Converter.doEnforce(obj);
-                Object res = map.get(propertyName);
-                if (res != null) {
-                    return res;
-                }
-                if (map.containsKey(property)) {
-                    back = map.get(property);
-                } else {
-                    back = doGetProperty(obj, property);
-                }
-            } else {
-                back = doGetProperty(obj, property);
-            }
-            if (back == null) {
-                return null;
-            }
-            return getProperty(back, joiner.apply(Arrays.copyOfRange(propertyCascade, 1, propertyCascade.length)));
-        }
-    }
-
-    private static Object doGetProperty(Object obj, String propertyName) {
-        String name = propertyName;
-        int index = -1;
-        if (propertyName.contains("[") && propertyName.endsWith("]")) {
-            name = propertyName.substring(0, propertyName.indexOf("["));
-            index = Integer.parseInt(propertyName.substring(propertyName.indexOf("[") + 1, propertyName.indexOf("]")));
-        }
-        CachedIntrospectionResults introspectionResults = CachedIntrospectionResults.forClass(obj.getClass());
-        PropertyAccess desc = introspectionResults.getPropertyAccess(name);
-        if (desc == null) {
-            logger.warn("class {} 's propertyName:{} not exit!", obj.getClass().getName(), propertyName);
-            return null;
-        }
-        Object val = desc.getValue(obj);
-
-        if (val != null && index > -1 && Types.isArray(val.getClass())) {
-            int length = Array.getLength(val);
-            return index < length ? Array.get(val, index) : null;
-        }
-
-        if (val != null && index > -1 && Types.isCollection(val.getClass())) {
-            Collection<?> collection = (Collection<?>) val;
-            int length = collection.size();
-            return index < length ? new ArrayList<>(collection).get(index) : null;
-        }
-
-        return val;
+        return PropertyPath.compile(propertyName).getValue(obj);
     }
 
     /**
@@ -394,20 +360,7 @@ public final class Beans {
         Assert.notNull(clazz, "clazz can't be null");
         Assert.notNull(propertyName, "propertyName can't be null");
         try {
-            CachedIntrospectionResults introspectionResults = CachedIntrospectionResults.forClass(clazz);
-            String[] propertyCascade = splitter.apply(propertyName);
-            Class<?> type;
-            if (propertyCascade.length == 1) {
-                PropertyAccess desc = introspectionResults.getPropertyAccess(propertyName);
-                type = desc.extractClass();
-            } else {
-                String property = propertyCascade[0];
-                PropertyAccess desc = introspectionResults.getPropertyAccess(property);
-                type = getPropertyType(desc.extractClass(),
-                        joiner.apply(Arrays.copyOfRange(propertyCascade, 1, propertyCascade.length)));
-            }
-
-            return type;
+            return PropertyPath.compile(propertyName).getType(clazz);
         } catch (Exception e) {
             throw new BeansException("Could not get value of property '" + propertyName + "' from source to target", e);
         }
@@ -517,6 +470,9 @@ public final class Beans {
 
     static Object doCast(Object source, Type clazz, boolean convert, String... ignoreProperties) throws BeansException {
         Assert.notNull(source, "source con't be null");
+        if (convert && ignoreProperties.length == 0) {
+            return BeanMapper.of(source.getClass(), clazz).map(source);
+        }
         Object target = instance(Types.extractClass(clazz));
         copyProperties(source, target, clazz, true, convert, ignoreProperties);
         return target;
@@ -702,10 +658,40 @@ public final class Beans {
                                       boolean supportMapKV, String... ignoreProperties) throws BeansException {
         Assert.notNull(source, "source con't be null");
         Assert.notNull(target, "target con't be null");
+        // Bean之间按缓存的拷贝计划执行，Map仍按属性名处理
+        if (!(source instanceof Map) && !(target instanceof Map)) {
+            BeanCopyPlan.forPair(source.getClass(), target.getClass(), targetType, merge, convert, ignoreProperties)
+                    .copy(source, target);
+            return;
+        }
         String[][] mapper = Properties.getCommonPropertyNameMapper(source, target, supportMapKV, ignoreProperties);
         copyProperties(source, target, targetType, mapper[0], mapper[1], merge, convert);
     }
 
+    /**
+     * 增量拷贝Bean属性
+     * <p>
+     * 源属性为null时跳过；与目标当前值相同（同一对象，或不可变类型且equals）时不调用写方法，
+     * 避免无意义的嵌套转换及ORM实体被标记为已修改
+     * </p>
+     *
+     * @param source           源对象
+     * @param target           目标对象
+     * @param ignoreProperties 忽略属性
+     * @return 发生变更的属性
+     * @throws BeansException 源或目标为Map
+     */
+    public static CopyChanges copyChangedProperties(Object source, Object target, String... ignoreProperties)
+            throws BeansException {
+        Assert.notNull(source, "source con't be null");
+        Assert.notNull(target, "target con't be null");
+        if (source instanceof Map || target instanceof Map) {
+            throw new BeansException("copyChangedProperties only supports bean to bean");
+        }
+        return BeanCopyPlan.forPair(source.getClass(), target.getClass(), null, true, true, ignoreProperties)
+                .copyChanged(source, target);
+    }
+
     /**
      * 拷贝对象属性
      *
@@ -761,6 +747,9 @@ public final class Beans {
      * </p>
      */
     public static Map<String, Object> unfold(Object source, String... ignoreProperties) {
+        if (!(source instanceof Map)) {
+            return FlattenPlan.forClass(source.getClass()).unfold(source, ignoreProperties);
+        }
         List<String> propertyNames = Properties.getReadPropertyNames(source, true);
         Map<String, Object> map = new HashMap<>(propertyNames.size());
         propertyNames.stream().filter(property -> !contained(ignoreProperties, property))
@@ -768,6 +757,27 @@ public final class Beans {
         return map;
     }
 
+    /**
+     * 合并平铺属性，{@link #unfold(Object, String...)} 的逆操作
+     * <p>
+     * 按目标类型的属性树读取驼峰key（如 innerInner），值按属性类型转换，为null的key不设置；
+     * 嵌套对象仅在其下存在非null的值时实例化
+     * </p>
+     *
+     * @param source           平铺map
+     * @param clazz            目标类型
+     * @param ignoreProperties 忽略属性，如 inner.inner
+     * @param <T>              目标类范型
+     * @return 目标对象
+     * @throws BeansException 实例化异常
+     */
+    public static <T> T fold(Map<String, ?> source, Class<T> clazz, String... ignoreProperties)
+            throws BeansException {
+        Assert.notNull(source, "source con't be null");
+        Assert.notNull(clazz, "clazz con't be null");
+        return (T) FlattenPlan.forClass(clazz).fold(source, ignoreProperties);
+    }
+
     static <T> boolean contained(String[] ts, String t) {
         if (ts != null && t != null) {
             for (String obj : ts) {
@@ -898,17 +908,7 @@ public final class Beans {
      */
     public static List<Map<String, Object>> toMap(Collection<?> source, String[] sourceProps, String[] alias,
                                                   Map<String, Object> other, FilterCallback filterCallback) {
-        List<Map<String, Object>> list = new LinkedList<>();
-
-        for (Object object : source) {
-            Map<String, Object> map = toMapWithFilter(object, sourceProps, alias, filterCallback);
-            if (other != null) {
-                map.putAll(other);
-            }
-            list.add(map);
-        }
-
-        return list;
+        return Projection.of(sourceProps, alias).toMaps(source, other, filterCallback);
     }
 
     /**
@@ -960,13 +960,7 @@ public final class Beans {
      * @throws BeansException e
      */
     public static List<Map<String, Object>> toMap(Collection<?> source, String[] sourceProps) {
-        List<Map<String, Object>> list = new LinkedList<>();
-
-        for (Object object : source) {
-            list.add(toMap(object, sourceProps, null));
-        }
-
-        return list;
+        return Projection.of(sourceProps, null).toMaps(source, null, null);
     }
 
     /**
@@ -982,10 +976,10 @@ public final class Beans {
      * @throws BeansException e
      */
     public static List<Object> toList(Collection<?> source, String prop) {
-        List<Object> list = new LinkedList<>();
+        PropertyPath path = PropertyPath.compile(prop);
+        List<Object> list = new ArrayList<>(source.size());
         for (Object object : source) {
-            Object value = getProperty(object, prop);
-            list.add(value);
+            list.add(path.getValue(object));
         }
 
         return list;
@@ -0,0 +1,330 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.util.Assert;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * 列式属性
+ * <p>
+ * 一次遍历将多个属性抽取为列：int/short/byte 存入 int[]，long 存入 long[]，double/float 存入 double[]，
+ * 其余类型存入 Object[]；基础类型属性通过生成的访问器读取不装箱，包装类型的null记录在每列的 BitSet 中。
+ * 也可由列重建Bean，int/long/double 属性不装箱写入，short/byte/float 属性经类型转换写入。
+ * </p>
+ *
+ * <pre>
+ * Columns columns = Columns.extract(students, "age", "score");
+ * int[] ages = columns.getInts("age");
+ * List&lt;Student&gt; copies = columns.toBeans(Student.class);
+ * </pre>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class Columns {
+
+    private final int size;
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    /**
+     * 创建空列集，通过 addXxx 添加列
+     *
+     * @param size 行数
+     */
+    public Columns(int size) {
+        Assert.isTrue(size >= 0, "size must not be negative");
+        this.size = size;
+    }
+
+    /**
+     * 抽取属性列，列类型按首个非null元素的属性类型确定
+     *
+     * @param source 源集合，null元素的各列记为null
+     * @param props  属性名
+     * @return 列集
+     * @throws BeansException 属性不存在，或属性类型与列类型不一致
+     */
+    public static Columns extract(Collection<?> source, String... props) throws BeansException {
+        Assert.notNull(source, "source con't be null");
+        Columns result = new Columns(source.size());
+        Class<?> beanClass = null;
+        for (Object item : source) {
+            if (item != null) {
+                beanClass = item.getClass();
+                break;
+            }
+        }
+        Column[] columns = new Column[props.length];
+        for (int i = 0; i < props.length; i++) {
+            Kind kind = beanClass == null ? Kind.OBJECT : Kind.of(readAccess(beanClass, props[i]).extractClass());
+            columns[i] = new Column(kind, kind.newArray(result.size), new BitSet());
+            result.columns.put(props[i], columns[i]);
+        }
+
+        PropertyAccess[] readers = null;
+        boolean[] primitives = null;
+        Class<?> readersClass = null;
+        int row = 0;
+        for (Object item : source) {
+            if (item == null) {
+                for (Column column : columns) {
+                    column.nulls.set(row);
+                }
+            } else {
+                if (item.getClass() != readersClass) {
+                    readersClass = item.getClass();
+                    readers = new PropertyAccess[props.length];
+                    primitives = new boolean[props.length];
+                    for (int i = 0; i < props.length; i++) {
+                        readers[i] = readAccess(readersClass, props[i]);
+                        Class<?> propertyClass = readers[i].extractClass();
+                        // 列类型由首个元素确定，其余类型的元素须属于同一列类型
+                        if (columns[i].kind != Kind.OBJECT && Kind.of(propertyClass) != columns[i].kind) {
+                            throw new BeansException("class " + readersClass.getName() + " 's propertyName:"
+                                    + props[i] + " type " + propertyClass.getName() + " not match column "
+                                    + columns[i].kind);
+                        }
+                        primitives[i] = propertyClass.isPrimitive();
+                    }
+                }
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i].read(readers[i], primitives[i], item, row);
+                }
+            }
+            row++;
+        }
+        return result;
+    }
+
+    /**
+     * 按列重建Bean，null值不设置，类型不一致时按属性类型转换
+     *
+     * @param clazz 目标类型
+     * @param <T>   t
+     * @return 与行顺序一致的对象
+     * @throws BeansException 实例化异常
+     */
+    public <T> List<T> toBeans(Class<T> clazz) throws BeansException {
+        CachedIntrospectionResults introspectionResults = CachedIntrospectionResults.forClass(clazz);
+        List<PropertyAccess> writers = new ArrayList<>(columns.size());
+        List<Column> writeColumns = new ArrayList<>(columns.size());
+        for (Map.Entry<String, Column> entry : columns.entrySet()) {
+            PropertyAccess propertyAccess = introspectionResults.getPropertyAccess(entry.getKey());
+            if (propertyAccess != null && propertyAccess.isWriteAccessible()) {
+                writers.add(propertyAccess);
+                writeColumns.add(entry.getValue());
+            }
+        }
+        Class<?>[] types = new Class<?>[writers.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = writers.get(i).extractClass();
+        }
+        List<T> beans = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            T bean = Beans.instance(clazz);
+            for (int i = 0; i < types.length; i++) {
+                writeColumns.get(i).write(writers.get(i), types[i], clazz, bean, row);
+            }
+            beans.add(bean);
+        }
+        return beans;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 列名
+     *
+     * @return 列名，按添加顺序
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+
+    public Columns addInts(String name, int[] values, BitSet nulls) {
+        return add(name, Kind.INT, values, values.length, nulls);
+    }
+
+    public Columns addLongs(String name, long[] values, BitSet nulls) {
+        return add(name, Kind.LONG, values, values.length, nulls);
+    }
+
+    public Columns addDoubles(String name, double[] values, BitSet nulls) {
+        return add(name, Kind.DOUBLE, values, values.length, nulls);
+    }
+
+    public Columns addObjects(String name, Object[] values) {
+        BitSet nulls = new BitSet();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                nulls.set(i);
+            }
+        }
+        return add(name, Kind.OBJECT, values, values.length, nulls);
+    }
+
+    public int[] getInts(String name) {
+        return (int[]) column(name, Kind.INT).values;
+    }
+
+    public long[] getLongs(String name) {
+        return (long[]) column(name, Kind.LONG).values;
+    }
+
+    public double[] getDoubles(String name) {
+        return (double[]) column(name, Kind.DOUBLE).values;
+    }
+
+    public Object[] getObjects(String name) {
+        return (Object[]) column(name, Kind.OBJECT).values;
+    }
+
+    /**
+     * 列的null位图
+     *
+     * @param name 列名
+     * @return 为null的行
+     */
+    public BitSet getNulls(String name) {
+        return column(name, null).nulls;
+    }
+
+    public boolean isNull(String name, int row) {
+        return column(name, null).nulls.get(row);
+    }
+
+    private Columns add(String name, Kind kind, Object values, int length, BitSet nulls) {
+        Assert.notNull(name, "name can't be null");
+        Assert.isTrue(length == size, "column " + name + " length " + length + " not equals size " + size);
+        columns.put(name, new Column(kind, values, nulls == null ? new BitSet() : nulls));
+        return this;
+    }
+
+    private Column column(String name, Kind kind) {
+        Column column = columns.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("column " + name + " not exit!");
+        }
+        if (kind != null && column.kind != kind) {
+            throw new IllegalArgumentException("column " + name + " is " + column.kind + " not " + kind);
+        }
+        return column;
+    }
+
+    private static PropertyAccess readAccess(Class<?> beanClass, String name) {
+        PropertyAccess propertyAccess = CachedIntrospectionResults.forClass(beanClass).getPropertyAccess(name);
+        if (propertyAccess == null || !propertyAccess.isReadAccessible()) {
+            throw new BeansException("class " + beanClass.getName() + " 's propertyName:" + name + " not exit!");
+        }
+        return propertyAccess;
+    }
+
+    /**
+     * 列类型
+     */
+    private enum Kind {
+        INT, LONG, DOUBLE, OBJECT;
+
+        static Kind of(Class<?> clazz) {
+            if (clazz == int.class || clazz == Integer.class || clazz == short.class || clazz == Short.class
+                    || clazz == byte.class || clazz == Byte.class) {
+                return INT;
+            } else if (clazz == long.class || clazz == Long.class) {
+                return LONG;
+            } else if (clazz == double.class || clazz == Double.class || clazz == float.class
+                    || clazz == Float.class) {
+                return DOUBLE;
+            }
+            return OBJECT;
+        }
+
+        Object newArray(int size) {
+            switch (this) {
+                case INT:
+                    return new int[size];
+                case LONG:
+                    return new long[size];
+                case DOUBLE:
+                    return new double[size];
+                default:
+                    return new Object[size];
+            }
+        }
+    }
+
+    /**
+     * 单列
+     */
+    private static final class Column {
+
+        private final Kind kind;
+        private final Object values;
+        private final BitSet nulls;
+
+        Column(Kind kind, Object values, BitSet nulls) {
+            this.kind = kind;
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        void read(PropertyAccess access, boolean primitive, Object item, int row) {
+            if (kind == Kind.OBJECT) {
+                Object value = access.getValue(item);
+                ((Object[]) values)[row] = value;
+                if (value == null) {
+                    nulls.set(row);
+                }
+                return;
+            }
+            if (primitive) {
+                switch (kind) {
+                    case INT:
+                        ((int[]) values)[row] = access.getInt(item);
+                        break;
+                    case LONG:
+                        ((long[]) values)[row] = access.getLong(item);
+                        break;
+                    default:
+                        ((double[]) values)[row] = access.getDouble(item);
+                }
+                return;
+            }
+            Number value = access.getValue(item);
+            if (value == null) {
+                nulls.set(row);
+            } else if (kind == Kind.INT) {
+                ((int[]) values)[row] = value.intValue();
+            } else if (kind == Kind.LONG) {
+                ((long[]) values)[row] = value.longValue();
+            } else {
+                ((double[]) values)[row] = value.doubleValue();
+            }
+        }
+
+        void write(PropertyAccess access, Class<?> type, Class<?> beanClass, Object bean, int row) {
+            if (nulls.get(row)) {
+                return;
+            }
+            if (kind == Kind.INT && (type == int.class || type == Integer.class)) {
+                access.setInt(bean, ((int[]) values)[row]);
+            } else if (kind == Kind.LONG && (type == long.class || type == Long.class)) {
+                access.setLong(bean, ((long[]) values)[row]);
+            } else if (kind == Kind.DOUBLE && (type == double.class || type == Double.class)) {
+                access.setDouble(bean, ((double[]) values)[row]);
+            } else {
+                Object value = Array.get(values, row);
+                try {
+                    Beans.doSetProperty(beanClass, access, bean, value, true);
+                } catch (Exception e) {
+                    throw new BeansException("Could not set value of property '" + access.getName()
+                            + "' to target [" + beanClass + "]", e);
+                }
+            }
+        }
+    }
+}
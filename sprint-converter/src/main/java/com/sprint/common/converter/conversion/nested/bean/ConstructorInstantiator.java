@@ -0,0 +1,292 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.ConverterEngine;
+import com.sprint.common.converter.conversion.nested.NestedConverterRegistry;
+import com.sprint.common.converter.conversion.nested.bean.annotation.PropertyInfo;
+import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccessors;
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 构造方法实例化器
+ * <p>
+ * 无无参构造方法的类型（不可变对象、record、全参构造Bean）按构造参数名一次性转换参数并调用缓存的构造方法。
+ * 参数名依次取自：参数上的 PropertyInfo 别名、属性上 PropertyInfo 的 index、record 组件名、
+ * -parameters 编译保留的参数名；存在无法命名的参数时该构造方法不可用。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class ConstructorInstantiator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConstructorInstantiator.class);
+
+    private static final ConcurrentReferenceHashMap<Class<?>, Optional<ConstructorInstantiator>> INSTANTIATOR_CACHE =
+            new ConcurrentReferenceHashMap<>(256);
+
+    /* Java 16+ record 支持，低版本为null */
+    private static final Method IS_RECORD = findMethod(Class.class, "isRecord");
+    private static final Method GET_RECORD_COMPONENTS = findMethod(Class.class, "getRecordComponents");
+
+    private final Class<?> targetClass;
+    private final Constructor<?> constructor;
+    private final Function<Object[], Object> invoker;
+    private final String[] names;
+    private final Type[] parameterTypes;
+    private final Object[] defaultValues;
+    /* 构造参数已覆盖全部可写属性 */
+    private final boolean complete;
+    /* 最近一次绑定的源类型 */
+    private volatile Binding binding;
+
+    private ConstructorInstantiator(Class<?> targetClass, Constructor<?> constructor, String[] names) {
+        this.targetClass = targetClass;
+        this.constructor = constructor;
+        this.invoker = PropertyAccessors.constructor(constructor);
+        this.names = names;
+        this.parameterTypes = constructor.getGenericParameterTypes();
+        this.defaultValues = new Object[names.length];
+        Class<?>[] parameterClasses = constructor.getParameterTypes();
+        for (int i = 0; i < parameterClasses.length; i++) {
+            if (parameterClasses[i].isPrimitive()) {
+                defaultValues[i] = Array.get(Array.newInstance(parameterClasses[i], 1), 0);
+            }
+        }
+        Set<String> parameterNames = new HashSet<>(Arrays.asList(names));
+        this.complete = parameterNames.containsAll(
+                CachedIntrospectionResults.forClass(targetClass).getWritePropertyAccessMap().keySet());
+    }
+
+    /**
+     * 获取类型的构造方法实例化器
+     *
+     * @param targetClass 目标类型
+     * @return 实例化器，存在无参构造方法或无可命名参数的构造方法时返回null
+     */
+    public static ConstructorInstantiator forClass(Class<?> targetClass) {
+        Optional<ConstructorInstantiator> instantiator = INSTANTIATOR_CACHE.get(targetClass);
+        if (instantiator == null) {
+            instantiator = Optional.ofNullable(create(targetClass));
+            Optional<ConstructorInstantiator> exist = INSTANTIATOR_CACHE.putIfAbsent(targetClass, instantiator);
+            if (exist != null) {
+                instantiator = exist;
+            }
+        }
+        return instantiator.orElse(null);
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * 构造参数对应的属性名
+     *
+     * @return 属性名
+     */
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    /**
+     * 构造参数是否已覆盖全部可写属性，覆盖时实例化后无需再拷贝属性
+     *
+     * @return true 覆盖
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * 按源对象属性实例化目标对象，参数按构造参数类型转换，缺失参数取null或基础类型默认值
+     *
+     * @param source     源对象，Bean或Map
+     * @param targetType 目标声明类型，用于解析构造参数范型
+     * @return 目标对象
+     * @throws BeansException 实例化异常
+     */
+    public Object newInstance(Object source, Type targetType) throws BeansException {
+        Object[] args = new Object[names.length];
+        NestedConverterRegistry registry = ConverterEngine.current().getNestedConverters();
+        Type beanType = targetType == null ? targetClass : targetType;
+        PropertyAccess[] readers = source instanceof Map ? null : bind(source.getClass()).readers;
+        for (int i = 0; i < args.length; i++) {
+            Object value;
+            if (readers == null) {
+                value = ((Map<?, ?>) source).get(names[i]);
+            } else {
+                value = readers[i] == null ? null : readers[i].getValue(source);
+            }
+            if (value != null) {
+                try {
+                    value = registry.getConverter(value.getClass(), beanType, parameterTypes[i]).convert(value);
+                } catch (Exception ex) {
+                    logger.warn("Could not convert constructor argument '" + names[i] + "' of target ["
+                            + targetClass + "] error message : {}", ex.getMessage());
+                    value = null;
+                }
+            }
+            args[i] = value == null ? defaultValues[i] : value;
+        }
+        try {
+            return invoker != null ? invoker.apply(args) : constructor.newInstance(args);
+        } catch (Exception e) {
+            throw new BeansException("instance error", e);
+        }
+    }
+
+    private Binding bind(Class<?> sourceClass) {
+        Binding current = binding;
+        if (current == null || current.sourceClass != sourceClass) {
+            Map<String, PropertyAccess> readable = Properties.getReadablePropertyAccessMap(sourceClass);
+            PropertyAccess[] readers = new PropertyAccess[names.length];
+            for (int i = 0; i < names.length; i++) {
+                readers[i] = readable.get(names[i]);
+            }
+            current = new Binding(sourceClass, readers);
+            binding = current;
+        }
+        return current;
+    }
+
+    private static ConstructorInstantiator create(Class<?> targetClass) {
+        if (targetClass.isInterface() || targetClass.isArray() || targetClass.isPrimitive()
+                || Modifier.isAbstract(targetClass.getModifiers()) || hasNoArgConstructor(targetClass)) {
+            return null;
+        }
+        Map<String, String> aliases = new HashMap<>();
+        Map<Integer, String> indexes = new HashMap<>();
+        CachedIntrospectionResults introspectionResults = CachedIntrospectionResults.forClass(targetClass);
+        for (PropertyAccess propertyAccess : introspectionResults.getPropertyAccesses()) {
+            PropertyInfoHolder propertyInfoHolder = introspectionResults.getPropertyInfo(propertyAccess);
+            aliases.put(propertyAccess.getName(), propertyInfoHolder.getName());
+            if (propertyInfoHolder.getIndex() > PropertyInfo.INDEX_UNKNOWN) {
+                indexes.put(propertyInfoHolder.getIndex(), propertyInfoHolder.getName());
+            }
+        }
+
+        String[] recordComponents = recordComponents(targetClass);
+        if (recordComponents != null) {
+            Constructor<?> canonical = canonicalConstructor(targetClass);
+            if (canonical != null) {
+                String[] names = new String[recordComponents.length];
+                for (int i = 0; i < names.length; i++) {
+                    names[i] = aliases.getOrDefault(recordComponents[i], recordComponents[i]);
+                }
+                return new ConstructorInstantiator(targetClass, canonical, names);
+            }
+        }
+
+        // 参数最多的可命名公共构造方法
+        Constructor<?>[] constructors = targetClass.getConstructors();
+        Arrays.sort(constructors, (a, b) -> Integer.compare(b.getParameterCount(), a.getParameterCount()));
+        for (Constructor<?> constructor : constructors) {
+            String[] names = parameterNames(constructor, aliases, indexes);
+            if (names != null) {
+                return new ConstructorInstantiator(targetClass, constructor, names);
+            }
+        }
+        return null;
+    }
+
+    private static String[] parameterNames(Constructor<?> constructor, Map<String, String> aliases,
+                                           Map<Integer, String> indexes) {
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            PropertyInfo propertyInfo = parameters[i].getAnnotation(PropertyInfo.class);
+            if (propertyInfo != null && !PropertyInfo.USE_DEFAULT_NAME.equals(propertyInfo.value())) {
+                names[i] = propertyInfo.value();
+            } else if (indexes.containsKey(i)) {
+                names[i] = indexes.get(i);
+            } else if (parameters[i].isNamePresent()) {
+                names[i] = aliases.getOrDefault(parameters[i].getName(), parameters[i].getName());
+            } else {
+                return null;
+            }
+        }
+        return names;
+    }
+
+    private static boolean hasNoArgConstructor(Class<?> clazz) {
+        try {
+            clazz.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String[] recordComponents(Class<?> clazz) {
+        if (IS_RECORD == null) {
+            return null;
+        }
+        try {
+            if (!Boolean.TRUE.equals(IS_RECORD.invoke(clazz))) {
+                return null;
+            }
+            Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(clazz);
+            String[] names = new String[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = (String) components[i].getClass().getMethod("getName").invoke(components[i]);
+            }
+            return names;
+        } catch (Exception e) {
+            logger.debug("ConstructorInstantiator#recordComponents({}) error", clazz, e);
+            return null;
+        }
+    }
+
+    private static Constructor<?> canonicalConstructor(Class<?> clazz) {
+        try {
+            Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(clazz);
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = (Class<?>) components[i].getClass().getMethod("getType").invoke(components[i]);
+            }
+            return clazz.getDeclaredConstructor(types);
+        } catch (Exception e) {
+            logger.debug("ConstructorInstantiator#canonicalConstructor({}) error", clazz, e);
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> clazz, String name) {
+        try {
+            return clazz.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 源类型到构造参数读取器的绑定
+     */
+    private static final class Binding {
+
+        private final Class<?> sourceClass;
+        private final PropertyAccess[] readers;
+
+        Binding(Class<?> sourceClass, PropertyAccess[] readers) {
+            this.sourceClass = sourceClass;
+            this.readers = readers;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 增量拷贝结果
+ * <p>
+ * 位下标对应拷贝计划中的目标属性，同一 (源类型, 目标类型, 忽略属性) 的下标稳定
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class CopyChanges {
+
+    private final String[] propertyNames;
+    private final BitSet changed;
+
+    CopyChanges(String[] propertyNames, BitSet changed) {
+        this.propertyNames = propertyNames;
+        this.changed = changed;
+    }
+
+    /**
+     * 是否有属性变更
+     *
+     * @return true 有变更
+     */
+    public boolean isChanged() {
+        return !changed.isEmpty();
+    }
+
+    /**
+     * 属性是否变更
+     *
+     * @param propertyName 目标属性名
+     * @return true 变更
+     */
+    public boolean isChanged(String propertyName) {
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            if (propertyNames[i].equals(propertyName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 变更位图
+     *
+     * @return 位图副本
+     */
+    public BitSet getChanged() {
+        return (BitSet) changed.clone();
+    }
+
+    /**
+     * 位下标对应的目标属性名
+     *
+     * @return 属性名
+     */
+    public String[] getPropertyNames() {
+        return propertyNames.clone();
+    }
+
+    /**
+     * 变更的目标属性名
+     *
+     * @return 属性名
+     */
+    public List<String> getChangedNames() {
+        List<String> names = new ArrayList<>(changed.cardinality());
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            names.add(propertyNames[i]);
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "CopyChanges" + getChangedNames();
+    }
+}
@@ -0,0 +1,191 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Bean平铺计划
+ * <p>
+ * 按类型缓存可读属性树（嵌套Bean展开，集合、Map视为叶子），叶子的驼峰key预先计算；
+ * 展开时深度优先遍历一次对象，合并时按同一棵树逐级实例化并设置属性。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class FlattenPlan {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlattenPlan.class);
+
+    private static final ConcurrentReferenceHashMap<Class<?>, FlattenPlan> PLAN_CACHE =
+            new ConcurrentReferenceHashMap<>(256);
+
+    private final Class<?> beanClass;
+    private final Node[] nodes;
+    private final int leafCount;
+
+    private FlattenPlan(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        this.nodes = build(beanClass, null, new HashSet<>(Collections.singleton(beanClass)));
+        this.leafCount = countLeaves(nodes);
+    }
+
+    /**
+     * 获取平铺计划
+     *
+     * @param beanClass 类型
+     * @return 平铺计划
+     */
+    static FlattenPlan forClass(Class<?> beanClass) {
+        FlattenPlan plan = PLAN_CACHE.get(beanClass);
+        if (plan == null) {
+            plan = new FlattenPlan(beanClass);
+            FlattenPlan exist = PLAN_CACHE.putIfAbsent(beanClass, plan);
+            if (exist != null) {
+                plan = exist;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * 展开对象，中间层级为null时其下叶子的值均为null
+     *
+     * @param source           源对象
+     * @param ignoreProperties 忽略的属性路径，如 inner.name
+     * @return 平铺后map
+     */
+    Map<String, Object> unfold(Object source, String[] ignoreProperties) {
+        Map<String, Object> map = new HashMap<>(Math.max((int) (leafCount / 0.75f) + 1, 16));
+        unfold(nodes, source, map, ignoreProperties);
+        return map;
+    }
+
+    private static void unfold(Node[] nodes, Object obj, Map<String, Object> map, String[] ignoreProperties) {
+        for (Node node : nodes) {
+            Object value = obj == null ? null : node.access.getValue(obj);
+            if (node.children == null) {
+                if (ignoreProperties.length == 0 || !Beans.contained(ignoreProperties, node.path)) {
+                    map.put(node.key, value);
+                }
+            } else {
+                unfold(node.children, value, map, ignoreProperties);
+            }
+        }
+    }
+
+    /**
+     * 按平铺map重建对象，缺失或为null的key不设置，中间层级按需实例化
+     *
+     * @param source           平铺map
+     * @param ignoreProperties 忽略的属性路径
+     * @return 对象
+     * @throws BeansException 实例化异常
+     */
+    Object fold(Map<String, ?> source, String[] ignoreProperties) throws BeansException {
+        Object target = Beans.instance(beanClass);
+        fold(nodes, beanClass, target, source, ignoreProperties);
+        return target;
+    }
+
+    /* 返回是否设置了任一属性 */
+    private static boolean fold(Node[] nodes, Class<?> objType, Object obj, Map<String, ?> source,
+                                String[] ignoreProperties) {
+        boolean folded = false;
+        for (Node node : nodes) {
+            if (!node.access.isWriteAccessible() && node.children == null) {
+                continue;
+            }
+            try {
+                if (node.children == null) {
+                    Object value = source.get(node.key);
+                    if (value != null && !Beans.contained(ignoreProperties, node.path)) {
+                        Beans.doSetProperty(objType, node.access, obj, value, true);
+                        folded = true;
+                    }
+                } else if (node.containsAny(source)) {
+                    Object child = node.access.getValue(obj);
+                    boolean created = child == null;
+                    if (created) {
+                        if (!node.access.isWriteAccessible()) {
+                            continue;
+                        }
+                        child = Beans.instance(node.beanClass);
+                    }
+                    boolean childFolded = fold(node.children, node.beanClass, child, source, ignoreProperties);
+                    if (childFolded && created) {
+                        node.access.setValue(obj, child);
+                    }
+                    folded |= childFolded;
+                }
+            } catch (Exception ex) {
+                logger.warn("Could not set value of property '" + node.path + "' from source to target ["
+                        + obj.getClass() + "] error message : {}", ex.getMessage());
+            }
+        }
+        return folded;
+    }
+
+    private static Node[] build(Class<?> beanClass, Node parent, Set<Class<?>> visiting) {
+        List<Node> nodes = new ArrayList<>();
+        for (PropertyAccess propertyAccess : CachedIntrospectionResults.forClass(beanClass).getPropertyAccesses()) {
+            if (!propertyAccess.isReadAccessible()) {
+                continue;
+            }
+            Class<?> type = propertyAccess.extractClass();
+            Node node = new Node(parent, propertyAccess, type);
+            // 自引用类型视为叶子，避免无限展开
+            if (!Types.isIterable(type) && !Types.isMap(type) && Types.isBean(type) && visiting.add(type)) {
+                node.children = build(type, node, visiting);
+                visiting.remove(type);
+            }
+            nodes.add(node);
+        }
+        return nodes.toArray(new Node[0]);
+    }
+
+    private static int countLeaves(Node[] nodes) {
+        int count = 0;
+        for (Node node : nodes) {
+            count += node.children == null ? 1 : countLeaves(node.children);
+        }
+        return count;
+    }
+
+    /**
+     * 属性树节点
+     */
+    private static final class Node {
+
+        private final PropertyAccess access;
+        private final Class<?> beanClass;
+        /* 点分路径，如 inner.name */
+        private final String path;
+        /* 驼峰key，如 innerName */
+        private final String key;
+        /* 嵌套Bean的子属性，叶子为null */
+        private Node[] children;
+
+        Node(Node parent, PropertyAccess access, Class<?> beanClass) {
+            this.access = access;
+            this.beanClass = beanClass;
+            this.path = parent == null ? access.getName() : parent.path + "." + access.getName();
+            this.key = Beans.pointToCamel(path);
+        }
+
+        boolean containsAny(Map<String, ?> source) {
+            for (Node child : children) {
+                if (child.children == null ? source.get(child.key) != null : child.containsAny(source)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+
+import java.util.*;
+
+/**
+ * 属性投影
+ * <p>
+ * 将一组属性路径编译一次，按元素类型缓存一级属性的访问器，批量输出预分配容量的 Map，
+ * 或共享列名表头的 Object[] 行。属性取值与 {@link Beans#getProperty(Object, String)} 一致。
+ * </p>
+ *
+ * <pre>
+ * Projection projection = Projection.of(new String[]{"name", "inner.inner"}, new String[]{"name", "inner"});
+ * List&lt;Object[]&gt; rows = projection.toRows(students);
+ * String[] header = projection.getHeader();
+ * </pre>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class Projection {
+
+    private static final String ARRAY_MARK = "[]";
+
+    private final String[] sourceProps;
+    private final String[] header;
+    /* 含 [] 的属性不取值，为null */
+    private final PropertyPath[] paths;
+    /* 可直接按访问器读取的一级属性 */
+    private final boolean[] simple;
+    private final int capacity;
+    /* 最近一次绑定的元素类型 */
+    private volatile Binding binding;
+
+    private Projection(String[] sourceProps, String[] alias) {
+        this.sourceProps = sourceProps == null ? new String[0] : sourceProps.clone();
+        int length = this.sourceProps.length;
+        this.header = new String[length];
+        this.paths = new PropertyPath[length];
+        this.simple = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            String sourceProp = this.sourceProps[i];
+            header[i] = alias != null && alias.length > i ? alias[i] : sourceProp;
+            if (sourceProp.indexOf(ARRAY_MARK) <= 0) {
+                paths[i] = PropertyPath.compile(sourceProp);
+                simple[i] = sourceProp.indexOf('.') < 0 && sourceProp.indexOf('[') < 0;
+            }
+        }
+        this.capacity = (int) (length / 0.75f) + 1;
+    }
+
+    /**
+     * 编译投影
+     * <p>
+     * sourceProps 与 alias 按顺序对应，alias 缺省时使用属性名
+     * </p>
+     *
+     * @param sourceProps 属性路径
+     * @param alias       输出列名
+     * @return 投影
+     */
+    public static Projection of(String[] sourceProps, String[] alias) {
+        return new Projection(sourceProps, alias);
+    }
+
+    /**
+     * 编译投影
+     *
+     * @param sourceProps 属性路径
+     * @return 投影
+     */
+    public static Projection of(String... sourceProps) {
+        return new Projection(sourceProps, null);
+    }
+
+    /**
+     * 输出列名
+     *
+     * @return 列名，与行内下标对应
+     */
+    public String[] getHeader() {
+        return header.clone();
+    }
+
+    /**
+     * 投影为map，值为null的列不输出
+     *
+     * @param source         源对象
+     * @param filterCallback 过滤器，可为null
+     * @return map
+     * @throws BeansException 属性为空
+     */
+    public Map<String, Object> toMap(Object source, FilterCallback filterCallback) throws BeansException {
+        return toMap(source, null, filterCallback);
+    }
+
+    /**
+     * 批量投影为map
+     *
+     * @param source         源集合
+     * @param other          每行追加的固定值，可为null
+     * @param filterCallback 过滤器，可为null
+     * @return 与源集合顺序一致的map列表
+     * @throws BeansException 属性为空
+     */
+    public List<Map<String, Object>> toMaps(Collection<?> source, Map<String, Object> other,
+                                            FilterCallback filterCallback) throws BeansException {
+        List<Map<String, Object>> list = new ArrayList<>(source.size());
+        for (Object object : source) {
+            list.add(toMap(object, other, filterCallback));
+        }
+        return list;
+    }
+
+    /**
+     * 批量投影为行，列顺序与 {@link #getHeader()} 一致，值可为null
+     *
+     * @param source 源集合
+     * @return 与源集合顺序一致的行
+     * @throws BeansException 属性为空
+     */
+    public List<Object[]> toRows(Collection<?> source) throws BeansException {
+        List<Object[]> rows = new ArrayList<>(source.size());
+        for (Object object : source) {
+            checkProps();
+            Object[] row = new Object[paths.length];
+            PropertyAccess[] readers = readers(object);
+            for (int i = 0; i < row.length; i++) {
+                row[i] = getValue(object, readers, i);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private Map<String, Object> toMap(Object source, Map<String, Object> other, FilterCallback filterCallback) {
+        checkProps();
+        Map<String, Object> result = new HashMap<>(other == null ? capacity
+                : capacity + (int) (other.size() / 0.75f));
+        PropertyAccess[] readers = readers(source);
+        for (int i = 0; i < paths.length; i++) {
+            Object value = getValue(source, readers, i);
+            if (filterCallback != null) {
+                value = filterCallback.filter(sourceProps[i], value);
+            }
+            if (value != null) {
+                result.put(header[i], value);
+            }
+        }
+        if (other != null) {
+            result.putAll(other);
+        }
+        return result;
+    }
+
+    private void checkProps() {
+        if (paths.length == 0) {
+            throw new BeansException("sourceProps  is null");
+        }
+    }
+
+    private Object getValue(Object source, PropertyAccess[] readers, int i) {
+        if (readers != null && readers[i] != null) {
+            return readers[i].getValue(source);
+        }
+        return paths[i] == null ? null : paths[i].getValue(source);
+    }
+
+    /* Map元素按key取值，不绑定访问器 */
+    private PropertyAccess[] readers(Object source) {
+        if (source instanceof Map) {
+            return null;
+        }
+        Class<?> sourceClass = source.getClass();
+        Binding current = binding;
+        if (current == null || current.sourceClass != sourceClass) {
+            CachedIntrospectionResults introspectionResults = CachedIntrospectionResults.forClass(sourceClass);
+            PropertyAccess[] readers = new PropertyAccess[paths.length];
+            for (int i = 0; i < readers.length; i++) {
+                if (simple[i]) {
+                    readers[i] = introspectionResults.getPropertyAccess(sourceProps[i]);
+                }
+            }
+            current = new Binding(sourceClass, readers);
+            binding = current;
+        }
+        return current.readers;
+    }
+
+    /**
+     * 元素类型到访问器的绑定
+     */
+    private static final class Binding {
+
+        private final Class<?> sourceClass;
+        private final PropertyAccess[] readers;
+
+        Binding(Class<?> sourceClass, PropertyAccess[] readers) {
+            this.sourceClass = sourceClass;
+            this.readers = readers;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sprint.common.converter.conversion.nested.bean;
 
+import com.sprint.common.converter.ConverterEngine;
 import com.sprint.common.converter.conversion.nested.bean.annotation.DefaultPropertyInfoAnnotationParser;
 import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
 import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
@@ -125,7 +126,8 @@ public class Properties {
             if (parsePropertyInfoHolder.getName() != null && !parsePropertyInfoHolder.getName().isEmpty()) {
                 propertyInfoHolder.setName(parsePropertyInfoHolder.getName());
             }
-            if (!Objects.equals(propertyInfoHolder.getAccess(), Access.AUTO)) {
+            if (parsePropertyInfoHolder.getAccess() != null
+                    && !Objects.equals(parsePropertyInfoHolder.getAccess(), Access.AUTO)) {
                 propertyInfoHolder.setAccess(parsePropertyInfoHolder.getAccess());
             }
             if (parsePropertyInfoHolder.getIndex() > -1) {
@@ -139,7 +141,8 @@ public class Properties {
                 if (parsePropertyInfoHolder.getName() != null && !parsePropertyInfoHolder.getName().isEmpty()) {
                     propertyInfoHolder.setName(parsePropertyInfoHolder.getName());
                 }
-                if (!Objects.equals(propertyInfoHolder.getAccess(), Access.AUTO)) {
+                if (parsePropertyInfoHolder.getAccess() != null
+                        && !Objects.equals(parsePropertyInfoHolder.getAccess(), Access.AUTO)) {
                     propertyInfoHolder.setAccess(parsePropertyInfoHolder.getAccess());
                 }
                 if (parsePropertyInfoHolder.getIndex() > -1) {
@@ -296,21 +299,111 @@ public class Properties {
             }
         }
 
+        if (supportMapKV && source instanceof Map && !(target instanceof Map)
+                && ConverterEngine.current().isLenientPropertyNames()) {
+            addLenientPropertyMapper((Map<?, ?>) source, target, targetWritePropertyAccess, ignore, sourceProperty,
+                    targetProperty);
+        }
+
         return new String[][]{sourceProperty.toArray(STRING_ARRAY), targetProperty.toArray(STRING_ARRAY)};
     }
 
+    /**
+     * 获取两个Bean类型间按属性名（含PropertyInfo别名）匹配的读写属性对
+     *
+     * @param sourceClass      源类型
+     * @param targetClass      目标类型
+     * @param ignoreProperties 忽略属性
+     * @return [源可读属性, 目标可写属性]
+     */
+    public static List<PropertyAccess[]> getCommonPropertyAccess(Class<?> sourceClass, Class<?> targetClass,
+                                                                 String... ignoreProperties) {
+        Set<String> ignore = new HashSet<>(Arrays.asList(ignoreProperties));
+        Map<String, PropertyAccess> sourceReadPropertyAccess = getReadAblePropertyAccessMap(sourceClass, ignore);
+        Map<String, PropertyAccess> targetWritePropertyAccess = getWriteAblePropertyAccessMap(targetClass, ignore);
+        List<PropertyAccess[]> propertyAccesses = new ArrayList<>();
+        for (Map.Entry<String, PropertyAccess> targetEntry : targetWritePropertyAccess.entrySet()) {
+            PropertyAccess sourcePropertyAccess = sourceReadPropertyAccess.get(targetEntry.getKey());
+            if (sourcePropertyAccess != null) {
+                propertyAccesses.add(new PropertyAccess[]{sourcePropertyAccess, targetEntry.getValue()});
+            }
+        }
+        return propertyAccesses;
+    }
+
+    /**
+     * 获取属性注解解析结果，按类型缓存，不可修改
+     *
+     * @param propertyAccess propertyAccess
+     * @return PropertyInfoHolder
+     */
+    public static PropertyInfoHolder getPropertyInfo(PropertyAccess propertyAccess) {
+        return CachedIntrospectionResults.forClass(propertyAccess.getBeanClass()).getPropertyInfo(propertyAccess);
+    }
+
+    /**
+     * 获取Bean类型按属性名（含PropertyInfo别名）索引的可读属性
+     *
+     * @param clazz 类型
+     * @return 属性名 -&gt; 可读属性
+     */
+    static Map<String, PropertyAccess> getReadablePropertyAccessMap(Class<?> clazz) {
+        return CachedIntrospectionResults.forClass(clazz).getReadPropertyAccessMap();
+    }
+
     private static Map<String, PropertyAccess> getReadAblePropertyAccessMap(Object source, Set<String> ignore) {
-        return getReadPropertyAccess(source).stream().map(Properties::parsePropertyInfo)
-                .filter(item -> !ignore.contains(item.getName()))
-                .filter(item -> !Objects.equals(item.getAccess(), Access.WRITE_ONLY))
-                .collect(Collectors.toMap(PropertyInfoHolder::getName, PropertyInfoHolder::getPropertyAccess));
+        return getReadAblePropertyAccessMap(source.getClass(), ignore);
     }
 
     private static Map<String, PropertyAccess> getWriteAblePropertyAccessMap(Object target, Set<String> ignore) {
-        return getWritePropertyAccess(target).stream().map(Properties::parsePropertyInfo)
-                .filter(item -> !ignore.contains(item.getName()))
-                .filter(item -> !Objects.equals(item.getAccess(), Access.READ_ONLY))
-                .collect(Collectors.toMap(PropertyInfoHolder::getName, PropertyInfoHolder::getPropertyAccess));
+        return getWriteAblePropertyAccessMap(target.getClass(), ignore);
+    }
+
+    private static Map<String, PropertyAccess> getReadAblePropertyAccessMap(Class<?> clazz, Set<String> ignore) {
+        return exclude(CachedIntrospectionResults.forClass(clazz).getReadPropertyAccessMap(), ignore);
+    }
+
+    private static Map<String, PropertyAccess> getWriteAblePropertyAccessMap(Class<?> clazz, Set<String> ignore) {
+        return exclude(CachedIntrospectionResults.forClass(clazz).getWritePropertyAccessMap(), ignore);
+    }
+
+    private static Map<String, PropertyAccess> exclude(Map<String, PropertyAccess> propertyAccessMap,
+                                                       Set<String> ignore) {
+        if (ignore.isEmpty()) {
+            return propertyAccessMap;
+        }
+        Map<String, PropertyAccess> result = new HashMap<>(propertyAccessMap);
+        result.keySet().removeAll(ignore);
+        return result;
+    }
+
+    // 未精确匹配的map key按宽松名称匹配目标可写属性
+    private static void addLenientPropertyMapper(Map<?, ?> source, Object target,
+                                                 Map<String, PropertyAccess> targetWritePropertyAccess,
+                                                 Set<String> ignore, List<String> sourceProperty,
+                                                 List<String> targetProperty) {
+        CachedIntrospectionResults introspectionResults = CachedIntrospectionResults.forClass(target.getClass());
+        Set<String> mapped = new HashSet<>(targetProperty);
+        for (Object key : source.keySet()) {
+            if (!(key instanceof String) || ignore.contains(key)) {
+                continue;
+            }
+            String name = (String) key;
+            // 含路径分隔符的key无法按属性名读取
+            if (name.indexOf('.') >= 0 || name.indexOf('[') >= 0) {
+                continue;
+            }
+            PropertyAccess propertyAccess = introspectionResults.getPropertyAccess(name, true);
+            if (propertyAccess == null || mapped.contains(propertyAccess.getName())) {
+                continue;
+            }
+            String alias = introspectionResults.getPropertyInfo(propertyAccess).getName();
+            if (!ignore.contains(alias) && targetWritePropertyAccess.get(alias) == propertyAccess) {
+                mapped.add(propertyAccess.getName());
+                sourceProperty.add(name);
+                targetProperty.add(propertyAccess.getName());
+            }
+        }
     }
 
     // 获取map 属性映射
@@ -29,11 +29,15 @@ public class PropertyInfoHolder {
      */
     private Access access;
 
+    /* 缓存共享的实例不可修改 */
+    private boolean unmodifiable;
+
     public PropertyAccess getPropertyAccess() {
         return propertyAccess;
     }
 
     public void setPropertyAccess(PropertyAccess propertyAccess) {
+        checkModifiable();
         this.propertyAccess = propertyAccess;
     }
 
@@ -42,6 +46,7 @@ public class PropertyInfoHolder {
     }
 
     public void setName(String name) {
+        checkModifiable();
         this.name = name;
     }
 
@@ -50,6 +55,7 @@ public class PropertyInfoHolder {
     }
 
     public void setIndex(int index) {
+        checkModifiable();
         this.index = index;
     }
 
@@ -58,9 +64,34 @@ public class PropertyInfoHolder {
     }
 
     public void setAccess(Access access) {
+        checkModifiable();
         this.access = access;
     }
 
+    /**
+     * 获取不可修改的副本，调用其 setter 抛出 UnsupportedOperationException
+     *
+     * @return 不可修改的 PropertyInfoHolder
+     */
+    public PropertyInfoHolder unmodifiable() {
+        if (unmodifiable) {
+            return this;
+        }
+        PropertyInfoHolder copy = new PropertyInfoHolder();
+        copy.propertyAccess = propertyAccess;
+        copy.name = name;
+        copy.index = index;
+        copy.access = access;
+        copy.unmodifiable = true;
+        return copy;
+    }
+
+    private void checkModifiable() {
+        if (unmodifiable) {
+            throw new UnsupportedOperationException("PropertyInfoHolder of '" + name + "' is unmodifiable");
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
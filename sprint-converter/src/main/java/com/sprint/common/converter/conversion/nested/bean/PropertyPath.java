@@ -0,0 +1,317 @@
+package com.sprint.common.converter.conversion.nested.bean;
+
+import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.util.Assert;
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * 编译后的属性路径
+ * <p>
+ * 形如 "a.b[3].c" 的路径只解析一次并缓存，每级属性按对象类型缓存属性访问器；
+ * List 按下标直接读取，不再复制为新的集合。缓存条数有上限，超出后新路径不再缓存。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class PropertyPath {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyPath.class);
+
+    private static final ConcurrentReferenceHashMap<String, PropertyPath> PATH_CACHE =
+            new ConcurrentReferenceHashMap<>(256);
+
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    private static final int INVALID_INDEX = -2;
+
+    private final String expression;
+    private final Segment[] segments;
+
+    private PropertyPath(String expression) {
+        this.expression = expression;
+        String[] names = expression.split("\\.");
+        if (names.length == 1) {
+            this.segments = new Segment[]{new Segment(expression, expression)};
+        } else {
+            this.segments = new Segment[names.length];
+            for (int i = 0; i < names.length; i++) {
+                segments[i] = new Segment(names[i],
+                        String.join(".", Arrays.asList(names).subList(i, names.length)));
+            }
+        }
+    }
+
+    /**
+     * 编译属性路径
+     *
+     * @param expression 属性路径，如 a.b[3].c
+     * @return 属性路径
+     */
+    public static PropertyPath compile(String expression) {
+        Assert.notNull(expression, "expression can't be null");
+        PropertyPath path = PATH_CACHE.get(expression);
+        if (path == null) {
+            path = new PropertyPath(expression);
+            if (PATH_CACHE.size() < MAX_CACHED_PATHS) {
+                PropertyPath exist = PATH_CACHE.putIfAbsent(expression, path);
+                if (exist != null) {
+                    path = exist;
+                }
+            }
+        }
+        return path;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * 获取属性值
+     *
+     * @param obj 对象
+     * @return 属性值，中间层级为null时返回null
+     */
+    public Object getValue(Object obj) {
+        return getValue(obj, 0);
+    }
+
+    /**
+     * 设置属性值，中间层级为null时实例化
+     *
+     * @param objType 对象类型
+     * @param obj     对象
+     * @param value   值
+     * @param convert 是否转换
+     * @param ignored 是否忽略异常
+     * @throws BeansException e
+     */
+    public void setValue(Type objType, Object obj, Object value, boolean convert, boolean ignored)
+            throws BeansException {
+        setValue(objType, obj, 0, segments.length, value, convert, ignored);
+    }
+
+    /**
+     * 获取属性的类型
+     *
+     * @param beanClass 对象类型
+     * @return 属性的类型，带下标的属性为元素类型
+     * @throws BeansException 属性不存在
+     */
+    public Class<?> getType(Class<?> beanClass) throws BeansException {
+        Class<?> type = beanClass;
+        for (Segment segment : segments) {
+            PropertyAccess desc = segment.bind(type).read;
+            if (desc == null) {
+                throw new BeansException("class " + type.getName() + " 's propertyName:" + segment.name
+                        + " not exit!");
+            }
+            type = desc.extractClass();
+            if (segment.indexText != null) {
+                type = type.isArray() ? type.getComponentType()
+                        : Types.extractClass(Types.getCollectionItemType(desc.getBeanClass(), desc.getType()));
+            }
+        }
+        return type;
+    }
+
+    private Object getValue(Object obj, int from) {
+        Segment segment = segments[from];
+        if (from == segments.length - 1) {
+            return getSegmentValue(obj, segment);
+        }
+        Object back;
+        if (obj instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) obj;
+            Object res = map.get(segment.path);
+            if (res != null) {
+                return res;
+            }
+            back = map.containsKey(segment.raw) ? map.get(segment.raw) : doGetValue(obj, segment);
+        } else {
+            back = doGetValue(obj, segment);
+        }
+        if (back == null) {
+            return null;
+        }
+        return getValue(back, from + 1);
+    }
+
+    private static Object getSegmentValue(Object obj, Segment segment) {
+        if (obj instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) obj;
+            if (map.containsKey(segment.raw)) {
+                return map.get(segment.raw);
+            }
+        }
+        return doGetValue(obj, segment);
+    }
+
+    private static Object doGetValue(Object obj, Segment segment) {
+        PropertyAccess desc = segment.bind(obj.getClass()).read;
+        if (desc == null) {
+            logger.warn("class {} 's propertyName:{} not exit!", obj.getClass().getName(), segment.raw);
+            return null;
+        }
+        Object val = desc.getValue(obj);
+        int index = segment.index();
+        if (val == null || index < 0) {
+            return val;
+        }
+        if (Types.isArray(val.getClass())) {
+            return index < Array.getLength(val) ? Array.get(val, index) : null;
+        }
+        if (val instanceof List) {
+            List<?> list = (List<?>) val;
+            return index < list.size() ? list.get(index) : null;
+        }
+        if (val instanceof Collection) {
+            Collection<?> collection = (Collection<?>) val;
+            if (index >= collection.size()) {
+                return null;
+            }
+            Iterator<?> iterator = collection.iterator();
+            for (int i = 0; i < index; i++) {
+                iterator.next();
+            }
+            return iterator.next();
+        }
+        return val;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setValue(Type objType, Object obj, int from, int to, Object value, boolean convert,
+                          boolean ignored) throws BeansException {
+        Segment segment = segments[from];
+        String propertyName = to - from == 1 ? segment.raw : segment.path;
+        try {
+            // 仅一级属性
+            if (to - from == 1) {
+                PropertyAccess desc = segment.bind(obj.getClass()).write;
+                if (desc != null) {
+                    Beans.doSetProperty(objType, desc, obj, value, convert);
+                } else if (obj instanceof Map) {
+                    Beans.doSetMapProperty(objType, (Map<String, Object>) obj, segment.raw, value, convert);
+                }
+            } else {// 多级属性设置
+                Object back = getSegmentValue(obj, segment);
+                Type propertyBeanType = null;
+                PropertyAccess desc = segment.bind(obj.getClass()).write;
+                if (desc != null) {
+                    propertyBeanType = desc.getType();
+                } else if (Types.isMap(obj.getClass())) {
+                    propertyBeanType = Types.getMapKVType(objType)[1];
+                }
+                // 如果该层级属性为null则实例化一个对象
+                if (back == null) {
+                    Class<?> propertyClass = Types.extractClass(propertyBeanType,
+                            objType == null ? obj.getClass() : objType);
+                    if (Types.isMap(propertyClass)) {
+                        back = Beans.instanceMap(propertyClass);
+                    } else if (Types.isCollection(propertyClass)) {
+                        back = Beans.instanceCollection(propertyClass);
+                    } else if (Types.isBean(propertyClass)) {
+                        back = Beans.instance(propertyClass);
+                    } else {
+                        back = new LinkedHashMap<>(1);
+                    }
+                    setValue(objType, obj, from, from + 1, back, false, ignored);
+                }
+                setValue(propertyBeanType, back, from + 1, to, value, convert, ignored);
+            }
+        } catch (Exception ex) {
+            if (!ignored) {
+                throw new BeansException("Could not set value of property '" + propertyName
+                        + "' from source to target [" + obj.getClass() + "]", ex);
+            } else {
+                logger.warn("Could not set value of property '" + propertyName + "' from source to target ["
+                        + obj.getClass() + "] error message : {}", ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * 路径中的一级属性
+     */
+    private static final class Segment {
+
+        /* 原始片段，如 b[3] */
+        private final String raw;
+        /* 从该级开始的剩余路径 */
+        private final String path;
+        private final String name;
+        private final String indexText;
+        private final int index;
+        /* 最近一次绑定的对象类型 */
+        private volatile Binding binding;
+
+        Segment(String raw, String path) {
+            this.raw = raw;
+            this.path = path;
+            if (raw.contains("[") && raw.endsWith("]")) {
+                this.name = raw.substring(0, raw.indexOf("["));
+                this.indexText = raw.substring(raw.indexOf("[") + 1, raw.indexOf("]"));
+                this.index = parseIndex(indexText);
+            } else {
+                this.name = raw;
+                this.indexText = null;
+                this.index = -1;
+            }
+        }
+
+        private static int parseIndex(String indexText) {
+            try {
+                return Integer.parseInt(indexText);
+            } catch (NumberFormatException e) {
+                return INVALID_INDEX;
+            }
+        }
+
+        int index() {
+            // 非法下标在访问时抛出异常
+            return index == INVALID_INDEX ? Integer.parseInt(indexText) : index;
+        }
+
+        Binding bind(Class<?> beanClass) {
+            Binding current = binding;
+            if (current == null || current.beanClass != beanClass) {
+                CachedIntrospectionResults introspectionResults = CachedIntrospectionResults.forClass(beanClass);
+                PropertyAccess read = introspectionResults.getPropertyAccess(name);
+                current = new Binding(beanClass, read,
+                        name.equals(raw) ? read : introspectionResults.getPropertyAccess(raw));
+                binding = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 对象类型到属性访问器的绑定
+     */
+    private static final class Binding {
+
+        private final Class<?> beanClass;
+        private final PropertyAccess read;
+        private final PropertyAccess write;
+
+        Binding(Class<?> beanClass, PropertyAccess read, PropertyAccess write) {
+            this.beanClass = beanClass;
+            this.read = read;
+            this.write = write;
+        }
+    }
+}
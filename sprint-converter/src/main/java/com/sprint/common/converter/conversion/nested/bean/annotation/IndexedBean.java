@@ -0,0 +1,20 @@
+package com.sprint.common.converter.conversion.nested.bean.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 编译期生成属性索引
+ * <p>
+ * 编译时由 sprint-converter-processor 中的 BeanIndexProcessor 将属性名、读写方法及成员变量写入
+ * META-INF/sprint-converter/bean.index，运行时直接按索引定位属性，不再扫描全部方法及逐级查找成员变量；
+ * 索引与类型不一致时回退为反射扫描。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Documented
+public @interface IndexedBean {
+}
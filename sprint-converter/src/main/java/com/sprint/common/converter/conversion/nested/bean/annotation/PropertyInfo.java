@@ -11,7 +11,7 @@ import java.lang.annotation.*;
  * @version 1.0
  * @since 2021年02月05日
  */
-@Target({ElementType.METHOD, ElementType.FIELD})
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface PropertyInfo {
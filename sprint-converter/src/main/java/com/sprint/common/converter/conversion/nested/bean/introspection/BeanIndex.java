@@ -0,0 +1,162 @@
+package com.sprint.common.converter.conversion.nested.bean.introspection;
+
+import com.sprint.common.converter.util.ConcurrentReferenceHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 编译期属性索引
+ * <p>
+ * 每行一个属性，制表符分隔：类型、属性名、读方法、写方法、写方法参数类型、声明字段所在类型、公共字段所在类型，
+ * 缺省为 "-"。按 ClassLoader 加载其可见的全部索引文件，首行版本不符的文件忽略。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class BeanIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BeanIndex.class);
+
+    static final String LOCATION = "META-INF/sprint-converter/bean.index";
+    static final String HEADER = "# sprint-converter bean index v1";
+    static final String NONE = "-";
+    static final char SEPARATOR = '\t';
+
+    private static final int COLUMNS = 7;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> primitive : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class,
+                long.class, float.class, double.class}) {
+            PRIMITIVES.put(primitive.getName(), primitive);
+        }
+    }
+
+    private static final ConcurrentReferenceHashMap<ClassLoader, Map<String, List<String[]>>> INDEXES =
+            new ConcurrentReferenceHashMap<>(16);
+
+    private BeanIndex() {
+    }
+
+    /**
+     * 按索引生成属性
+     *
+     * @param beanClass 类型
+     * @return 属性名 -&gt; 属性，有序；未索引或索引与类型不一致时为null
+     */
+    static Map<String, PropertyAccess> introspect(Class<?> beanClass) {
+        ClassLoader loader = beanClass.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        List<String[]> entries = index(loader).get(beanClass.getName());
+        if (entries == null) {
+            return null;
+        }
+        try {
+            Map<String, PropertyAccess> propertyAccesses = new LinkedHashMap<>();
+            for (String[] entry : entries) {
+                String name = entry[1];
+                Method readMethod = NONE.equals(entry[2]) ? null : beanClass.getMethod(entry[2]);
+                Method writeMethod = NONE.equals(entry[3]) ? null
+                        : beanClass.getMethod(entry[3], loadClass(entry[4], loader));
+                Field declaredField = NONE.equals(entry[5]) ? null
+                        : loadClass(entry[5], loader).getDeclaredField(name);
+                Field publicField = NONE.equals(entry[6]) ? null : loadClass(entry[6], loader).getDeclaredField(name);
+                propertyAccesses.put(name, new PropertyAccess(name, beanClass, readMethod, writeMethod, publicField,
+                        declaredField));
+            }
+            return propertyAccesses;
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            logger.debug("bean index of {} is stale, fall back to introspection", beanClass.getName(), ex);
+            return null;
+        }
+    }
+
+    private static Class<?> loadClass(String name, ClassLoader loader) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, loader);
+    }
+
+    private static Map<String, List<String[]>> index(ClassLoader loader) {
+        Map<String, List<String[]>> index = INDEXES.get(loader);
+        if (index == null) {
+            index = load(loader);
+            Map<String, List<String[]>> exist = INDEXES.putIfAbsent(loader, index);
+            if (exist != null) {
+                index = exist;
+            }
+        }
+        return index;
+    }
+
+    private static Map<String, List<String[]>> load(ClassLoader loader) {
+        Map<String, List<String[]>> index = new HashMap<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                // 同一类型以先加载的索引为准
+                Map<String, List<String[]>> entries = read(url);
+                for (Map.Entry<String, List<String[]>> entry : entries.entrySet()) {
+                    index.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("load bean index error message : {}", ex.getMessage());
+        }
+        return index;
+    }
+
+    private static Map<String, List<String[]>> read(URL url) throws IOException {
+        Map<String, List<String[]>> entries = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(),
+                StandardCharsets.UTF_8))) {
+            if (!HEADER.equals(reader.readLine())) {
+                logger.debug("ignore bean index {} with unknown version", url);
+                return entries;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                String[] entry = split(line);
+                if (entry == null) {
+                    logger.debug("ignore bean index {} with malformed line {}", url, line);
+                    return Collections.emptyMap();
+                }
+                entries.computeIfAbsent(entry[0], key -> new ArrayList<>()).add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private static String[] split(String line) {
+        String[] entry = new String[COLUMNS];
+        int start = 0;
+        for (int i = 0; i < COLUMNS; i++) {
+            int end = line.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = line.length();
+            }
+            if (start > line.length() || end == start) {
+                return null;
+            }
+            entry[i] = line.substring(start, end);
+            start = end + 1;
+        }
+        return start > line.length() ? entry : null;
+    }
+}
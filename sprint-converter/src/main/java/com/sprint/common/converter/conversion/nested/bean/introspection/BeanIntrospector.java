@@ -0,0 +1,181 @@
+package com.sprint.common.converter.conversion.nested.bean.introspection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Bean属性扫描
+ * <p>
+ * 替代 java.beans.Introspector，规则与其一致：公共非静态的 getX()/isX()（boolean）为读方法，
+ * 返回void的 setX(x) 为写方法，读写类型不兼容时只保留读方法；属性按名称排序。
+ * 其后按声明顺序（子类在前）追加无读写方法的非 final 非静态成员变量。扫描过程不依赖 java.desktop 模块，常规路径不抛出异常。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class BeanIntrospector {
+
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    /* 忽略转化的字段 */
+    private static final String IGNORE_CLASS = "class";
+
+    private BeanIntrospector() {
+    }
+
+    /**
+     * 反射扫描Bean属性
+     *
+     * @param beanClass 类型
+     * @return 属性名 -&gt; 属性，有序
+     */
+    static Map<String, PropertyAccess> introspect(Class<?> beanClass) {
+        Map<String, Candidates> methods = new TreeMap<>();
+        for (Method method : beanClass.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()) {
+                continue;
+            }
+            String name = method.getName();
+            int parameterCount = method.getParameterCount();
+            Class<?> returnType = method.getReturnType();
+            if (parameterCount == 0 && name.startsWith(GET_PREFIX) && name.length() > GET_PREFIX.length()
+                    && returnType != void.class) {
+                addRead(methods, decapitalize(name.substring(GET_PREFIX.length())), method);
+            } else if (parameterCount == 0 && name.startsWith(IS_PREFIX) && name.length() > IS_PREFIX.length()
+                    && returnType == boolean.class) {
+                addRead(methods, decapitalize(name.substring(IS_PREFIX.length())), method);
+            } else if (parameterCount == 1 && name.startsWith(SET_PREFIX) && name.length() > SET_PREFIX.length()
+                    && returnType == void.class) {
+                addWrite(methods, decapitalize(name.substring(SET_PREFIX.length())), method);
+            }
+        }
+
+        Map<String, Field> publicFields = new HashMap<>();
+        for (Field field : beanClass.getFields()) {
+            publicFields.putIfAbsent(field.getName(), field);
+        }
+        Map<String, Field> declaredFields = new HashMap<>();
+        Set<String> fieldNames = new LinkedHashSet<>();
+        for (Class<?> clazz = beanClass; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                declaredFields.putIfAbsent(field.getName(), field);
+                if (!Modifier.isFinal(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
+                    fieldNames.add(field.getName());
+                }
+            }
+        }
+
+        Map<String, PropertyAccess> propertyAccesses = new LinkedHashMap<>();
+        for (Map.Entry<String, Candidates> entry : methods.entrySet()) {
+            String name = entry.getKey();
+            if (IGNORE_CLASS.equals(name) || Class.class == beanClass
+                    && ("classLoader".equals(name) || "protectionDomain".equals(name))) {
+                // Ignore Class.getClassLoader() and getProtectionDomain() methods - nobody needs to bind to those
+                continue;
+            }
+            Method readMethod = entry.getValue().read;
+            Method writeMethod = entry.getValue().write();
+            if (readMethod == null && writeMethod == null) {
+                continue;
+            }
+            propertyAccesses.put(name, new PropertyAccess(name, beanClass, readMethod, writeMethod,
+                    publicFields.get(name), declaredFields.get(name)));
+        }
+
+        for (String fieldName : fieldNames) {
+            if (!propertyAccesses.containsKey(fieldName)) {
+                propertyAccesses.put(fieldName, new PropertyAccess(fieldName, beanClass, null, null,
+                        publicFields.get(fieldName), declaredFields.get(fieldName)));
+            }
+        }
+        return propertyAccesses;
+    }
+
+    private static void addRead(Map<String, Candidates> methods, String name, Method method) {
+        methods.computeIfAbsent(name, key -> new Candidates()).addRead(method);
+    }
+
+    private static void addWrite(Map<String, Candidates> methods, String name, Method method) {
+        methods.computeIfAbsent(name, key -> new Candidates()).writes.add(method);
+    }
+
+    /* 同 java.beans.Introspector#decapitalize */
+    private static String decapitalize(String name) {
+        if (name == null || name.isEmpty()) {
+            return name;
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+
+    /**
+     * 同名属性的候选读写方法
+     */
+    private static final class Candidates {
+
+        private Method read;
+        private final List<Method> writes = new ArrayList<>(1);
+
+        /* isX 优先于 getX，同类读方法取返回类型最具体者 */
+        void addRead(Method method) {
+            if (read == null) {
+                read = method;
+                return;
+            }
+            boolean currentIs = read.getName().startsWith(IS_PREFIX);
+            boolean methodIs = method.getName().startsWith(IS_PREFIX);
+            if (methodIs != currentIs) {
+                if (methodIs) {
+                    read = method;
+                }
+            } else if (read.getReturnType().isAssignableFrom(method.getReturnType())) {
+                read = method;
+            }
+        }
+
+        /* 写方法参数须可赋值给读方法类型，取参数类型最具体者；读写不兼容时只读 */
+        Method write() {
+            Class<?> type = read == null ? null : read.getReturnType();
+            Method write = null;
+            for (Method method : writes) {
+                Class<?> parameterType = method.getParameterTypes()[0];
+                if (type == null) {
+                    write = method;
+                    type = parameterType;
+                } else if (type.isAssignableFrom(parameterType)
+                        && (write == null || write.getParameterTypes()[0].isAssignableFrom(parameterType))) {
+                    write = method;
+                }
+            }
+            if (write == null && read != null) {
+                // 子类收窄读方法返回类型时，沿用父类中已配对的写方法，同 Introspector 合并父类属性
+                for (Method method : writes) {
+                    Class<?> parameterType = method.getParameterTypes()[0];
+                    if (pairedInDeclaringClass(method, parameterType)
+                            && (write == null || write.getParameterTypes()[0].isAssignableFrom(parameterType))) {
+                        write = method;
+                    }
+                }
+            }
+            return write;
+        }
+
+        private boolean pairedInDeclaringClass(Method write, Class<?> parameterType) {
+            try {
+                Method declaredRead = write.getDeclaringClass().getMethod(read.getName());
+                return declaredRead.getReturnType().isAssignableFrom(parameterType);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    }
+}
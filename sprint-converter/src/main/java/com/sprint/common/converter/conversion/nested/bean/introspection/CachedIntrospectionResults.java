@@ -0,0 +1,393 @@
+package com.sprint.common.converter.conversion.nested.bean.introspection;
+
+import com.sprint.common.converter.conversion.nested.bean.Access;
+import com.sprint.common.converter.conversion.nested.bean.BeansException;
+import com.sprint.common.converter.conversion.nested.bean.Properties;
+import com.sprint.common.converter.conversion.nested.bean.PropertyInfoHolder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 内省缓存
+ *
+ * @author hongfeng.li
+ * @version 1.0
+ * @since 2021年02月05日
+ */
+public class CachedIntrospectionResults {
+
+    /* 每个类型一个占位，随类型卸载回收，不受内存压力影响 */
+    private static final ClassValue<Holder> HOLDERS = new ClassValue<Holder>() {
+        @Override
+        protected Holder computeValue(Class<?> type) {
+            return new Holder(type);
+        }
+    };
+
+    /* 常驻的类型，不会被 clear 清除 */
+    private static final Map<Class<?>, CachedIntrospectionResults> RETAINED = new ConcurrentHashMap<>();
+
+    public static CachedIntrospectionResults forClass(Class<?> beanClass) {
+        return HOLDERS.get(beanClass).get();
+    }
+
+    /**
+     * 预先内省并常驻
+     *
+     * @param beanClasses 热点类型
+     */
+    public static void retain(Class<?>... beanClasses) {
+        for (Class<?> beanClass : beanClasses) {
+            RETAINED.computeIfAbsent(beanClass, CachedIntrospectionResults::forClass);
+        }
+    }
+
+    /**
+     * 清除类型的内省结果，常驻类型不清除
+     *
+     * @param beanClass 类型
+     */
+    public static void clear(Class<?> beanClass) {
+        if (!RETAINED.containsKey(beanClass)) {
+            HOLDERS.remove(beanClass);
+        }
+    }
+
+    /**
+     * 取消常驻并清除
+     *
+     * @param beanClass 类型
+     */
+    public static void release(Class<?> beanClass) {
+        RETAINED.remove(beanClass);
+        HOLDERS.remove(beanClass);
+    }
+
+    private final Class<?> beanClass;
+
+    private final Map<String, PropertyAccess> propertyAccessCache;
+
+    private final boolean indexed;
+
+    private final PropertyAccess[] readPropertyAccesses;
+
+    private final PropertyAccess[] writePropertyAccesses;
+
+    /* 属性注解解析结果及名称索引，首次使用时计算 */
+    private volatile PropertyViews propertyViews;
+
+    /* 按别名索引的读写视图，别名冲突时抛出异常，不影响按名称查找，首次使用时计算 */
+    private volatile Map<String, PropertyAccess> readView;
+
+    private volatile Map<String, PropertyAccess> writeView;
+
+    /**
+     * Create a new CachedIntrospectionResults instance for the given class.
+     *
+     * @param beanClass the bean class to analyze
+     * @throws BeansException in case of introspection failure
+     */
+    private CachedIntrospectionResults(Class<?> beanClass) throws BeansException {
+        this.beanClass = beanClass;
+        try {
+            // 有编译期索引时按索引生成
+            Map<String, PropertyAccess> indexed = BeanIndex.introspect(beanClass);
+            this.indexed = indexed != null;
+            this.propertyAccessCache = indexed != null ? indexed : BeanIntrospector.introspect(beanClass);
+        } catch (RuntimeException | LinkageError ex) {
+            throw new BeansException("Failed to obtain BeanInfo for class [" + beanClass.getName() + "]", ex);
+        }
+        this.readPropertyAccesses = this.propertyAccessCache.values().stream()
+                .filter(PropertyAccess::isReadAccessible).toArray(PropertyAccess[]::new);
+        this.writePropertyAccesses = this.propertyAccessCache.values().stream()
+                .filter(PropertyAccess::isWriteAccessible).toArray(PropertyAccess[]::new);
+    }
+
+    Class<?> getBeanClass() {
+        return this.beanClass;
+    }
+
+    /**
+     * 属性是否由编译期索引生成
+     *
+     * @return 有可用索引时为true，否则为反射扫描结果
+     */
+    public boolean isIndexed() {
+        return this.indexed;
+    }
+
+    /**
+     * 按属性名获取属性，匹配属性名、首字母大小写变体及PropertyInfo别名
+     *
+     * @param name 属性名
+     * @return PropertyAccess，不存在时为null
+     */
+    public PropertyAccess getPropertyAccess(String name) {
+        return name == null ? null : getPropertyViews().names.get(name);
+    }
+
+    /**
+     * 按属性名获取属性
+     *
+     * @param name    属性名
+     * @param lenient 未命中时忽略大小写及下划线、中划线匹配，如 user_name、USERNAME 匹配 userName
+     * @return PropertyAccess，不存在时为null
+     */
+    public PropertyAccess getPropertyAccess(String name, boolean lenient) {
+        if (name == null) {
+            return null;
+        }
+        PropertyViews views = getPropertyViews();
+        PropertyAccess pd = views.names.get(name);
+        return pd == null && lenient ? views.lenientNames.get(name) : pd;
+    }
+
+    public PropertyAccess[] getPropertyAccesses() {
+        PropertyAccess[] pds = new PropertyAccess[this.propertyAccessCache.size()];
+        int i = 0;
+        for (PropertyAccess pd : this.propertyAccessCache.values()) {
+            pds[i] = pd;
+            i++;
+        }
+        return pds;
+    }
+
+    /**
+     * 获取所有可读属性名字
+     *
+     * @return PropertyAccess[]
+     */
+    public PropertyAccess[] getReadPropertyAccess() {
+        return this.readPropertyAccesses.clone();
+    }
+
+    /**
+     * 获取所有可读属性名字
+     *
+     * @return PropertyAccess[]
+     */
+    public PropertyAccess[] getWritePropertyAccess() {
+        return this.writePropertyAccesses.clone();
+    }
+
+    /**
+     * 获取属性注解解析结果（名称、下标、权限），不可修改
+     *
+     * @param propertyAccess 本类型的属性
+     * @return PropertyInfoHolder
+     */
+    public PropertyInfoHolder getPropertyInfo(PropertyAccess propertyAccess) {
+        PropertyInfoHolder propertyInfoHolder = getPropertyViews().propertyInfos.get(propertyAccess.getName());
+        if (propertyInfoHolder == null || propertyInfoHolder.getPropertyAccess() != propertyAccess) {
+            return Properties.parsePropertyInfo(propertyAccess).unmodifiable();
+        }
+        return propertyInfoHolder;
+    }
+
+    /**
+     * 获取按属性名（含PropertyInfo别名）索引的可读属性，不含 WRITE_ONLY
+     *
+     * @return 属性名 -&gt; 可读属性，不可修改
+     */
+    public Map<String, PropertyAccess> getReadPropertyAccessMap() {
+        Map<String, PropertyAccess> current = this.readView;
+        if (current == null) {
+            current = getPropertyViews().view(this.readPropertyAccesses, Access.WRITE_ONLY);
+            this.readView = current;
+        }
+        return current;
+    }
+
+    /**
+     * 获取按属性名（含PropertyInfo别名）索引的可写属性，不含 READ_ONLY
+     *
+     * @return 属性名 -&gt; 可写属性，不可修改
+     */
+    public Map<String, PropertyAccess> getWritePropertyAccessMap() {
+        Map<String, PropertyAccess> current = this.writeView;
+        if (current == null) {
+            current = getPropertyViews().view(this.writePropertyAccesses, Access.READ_ONLY);
+            this.writeView = current;
+        }
+        return current;
+    }
+
+    private PropertyViews getPropertyViews() {
+        PropertyViews current = this.propertyViews;
+        if (current == null) {
+            synchronized (this) {
+                current = this.propertyViews;
+                if (current == null) {
+                    current = new PropertyViews(this.propertyAccessCache.values());
+                    this.propertyViews = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 属性注解解析结果及名称索引
+     */
+    private static final class PropertyViews {
+
+        private final Map<String, PropertyInfoHolder> propertyInfos = new HashMap<>();
+        /* 属性名、首字母大小写变体、别名 -> 属性，先放入者优先 */
+        private final Map<String, PropertyAccess> names = new HashMap<>();
+        private final LenientIndex lenientNames;
+
+        PropertyViews(Collection<PropertyAccess> propertyAccesses) {
+            for (PropertyAccess propertyAccess : propertyAccesses) {
+                propertyInfos.put(propertyAccess.getName(),
+                        Properties.parsePropertyInfo(propertyAccess).unmodifiable());
+                names.put(propertyAccess.getName(), propertyAccess);
+            }
+            // 与逐次查找时先尝试首字母小写、再尝试首字母大写的顺序一致
+            for (PropertyAccess propertyAccess : propertyAccesses) {
+                String name = propertyAccess.getName();
+                if (!name.isEmpty() && Character.isLowerCase(name.charAt(0))) {
+                    names.putIfAbsent(Character.toUpperCase(name.charAt(0)) + name.substring(1), propertyAccess);
+                }
+            }
+            for (PropertyAccess propertyAccess : propertyAccesses) {
+                String name = propertyAccess.getName();
+                if (!name.isEmpty() && Character.isUpperCase(name.charAt(0))) {
+                    names.putIfAbsent(Character.toLowerCase(name.charAt(0)) + name.substring(1), propertyAccess);
+                }
+            }
+            for (PropertyAccess propertyAccess : propertyAccesses) {
+                names.putIfAbsent(propertyInfos.get(propertyAccess.getName()).getName(), propertyAccess);
+            }
+            this.lenientNames = new LenientIndex(propertyAccesses, propertyInfos);
+        }
+
+        Map<String, PropertyAccess> view(PropertyAccess[] propertyAccesses, Access exclude) {
+            Map<String, PropertyAccess> view = new HashMap<>();
+            for (PropertyAccess propertyAccess : propertyAccesses) {
+                PropertyInfoHolder propertyInfoHolder = propertyInfos.get(propertyAccess.getName());
+                if (propertyInfoHolder.getAccess() == exclude) {
+                    continue;
+                }
+                if (view.putIfAbsent(propertyInfoHolder.getName(), propertyAccess) != null) {
+                    throw new IllegalStateException("Duplicate key " + propertyInfoHolder.getName());
+                }
+            }
+            return Collections.unmodifiableMap(view);
+        }
+    }
+
+    /**
+     * 宽松名称索引：忽略大小写及 '_'、'-'，开放寻址，查找时逐字符计算哈希及比较，不分配对象
+     */
+    private static final class LenientIndex {
+
+        private final String[] keys;
+        private final PropertyAccess[] values;
+        private final int mask;
+
+        LenientIndex(Collection<PropertyAccess> propertyAccesses, Map<String, PropertyInfoHolder> propertyInfos) {
+            int capacity = Integer.highestOneBit(Math.max(propertyAccesses.size(), 1) * 4 - 1) << 1;
+            this.keys = new String[capacity];
+            this.values = new PropertyAccess[capacity];
+            this.mask = capacity - 1;
+            for (PropertyAccess propertyAccess : propertyAccesses) {
+                put(propertyAccess.getName(), propertyAccess);
+            }
+            for (PropertyAccess propertyAccess : propertyAccesses) {
+                put(propertyInfos.get(propertyAccess.getName()).getName(), propertyAccess);
+            }
+        }
+
+        /* 同一规范名先放入者优先 */
+        private void put(String name, PropertyAccess propertyAccess) {
+            StringBuilder normalized = new StringBuilder(name.length());
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (!isSeparator(c)) {
+                    normalized.append(Character.toLowerCase(c));
+                }
+            }
+            String key = normalized.toString();
+            int slot = hash(key) & mask;
+            while (keys[slot] != null) {
+                if (keys[slot].equals(key)) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = propertyAccess;
+        }
+
+        PropertyAccess get(String name) {
+            int slot = hash(name) & mask;
+            while (keys[slot] != null) {
+                if (matches(keys[slot], name)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static int hash(String name) {
+            int h = 0;
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (!isSeparator(c)) {
+                    h = 31 * h + Character.toLowerCase(c);
+                }
+            }
+            return h ^ (h >>> 16);
+        }
+
+        private static boolean matches(String key, String name) {
+            int k = 0;
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (isSeparator(c)) {
+                    continue;
+                }
+                if (k == key.length() || key.charAt(k++) != Character.toLowerCase(c)) {
+                    return false;
+                }
+            }
+            return k == key.length();
+        }
+
+        private static boolean isSeparator(char c) {
+            return c == '_' || c == '-';
+        }
+    }
+
+    /**
+     * 单次内省：并发访问同一类型时只有一个线程执行内省，其余线程等待其结果
+     */
+    private static final class Holder {
+
+        private final Class<?> beanClass;
+        private volatile CachedIntrospectionResults results;
+
+        Holder(Class<?> beanClass) {
+            this.beanClass = beanClass;
+        }
+
+        CachedIntrospectionResults get() {
+            CachedIntrospectionResults current = results;
+            if (current == null) {
+                synchronized (this) {
+                    current = results;
+                    if (current == null) {
+                        current = new CachedIntrospectionResults(beanClass);
+                        results = current;
+                    }
+                }
+            }
+            return current;
+        }
+    }
+}
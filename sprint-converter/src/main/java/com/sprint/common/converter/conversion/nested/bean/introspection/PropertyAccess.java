@@ -0,0 +1,468 @@
+package com.sprint.common.converter.conversion.nested.bean.introspection;
+
+import com.sprint.common.converter.conversion.nested.bean.BeansException;
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.*;
+import java.util.stream.Collectors;
+
+/**
+ * 属性
+ *
+ * @author hongfeng.li
+ * @version 1.0
+ * @since 2021年02月05日
+ */
+public class PropertyAccess implements Cloneable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyAccess.class);
+
+    private final Class<?> beanClass;
+
+    private final String name;
+    private final Type type;
+    private final Method readMethod;
+    private final Method writeMethod;
+    private final Field field;
+    private final Map<Class<?>, Annotation> annotations;
+    /* 首次访问时绑定 */
+    private volatile Accessors accessors;
+
+    public PropertyAccess(String name, Class<?> beanClass, Method readMethod, Method writeMethod) {
+        this(name, beanClass, readMethod, writeMethod, doGetBeanPropertyField(name, beanClass),
+                doGetDeclaredField(name, beanClass));
+    }
+
+    /**
+     * 由扫描器预先查好字段，避免逐个属性查找字段
+     *
+     * @param name          属性名
+     * @param beanClass     类型
+     * @param readMethod    读方法
+     * @param writeMethod   写方法
+     * @param field         同名公共字段
+     * @param declaredField 同名声明字段（含父类）
+     */
+    PropertyAccess(String name, Class<?> beanClass, Method readMethod, Method writeMethod, Field field,
+                   Field declaredField) {
+        this.name = name;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.beanClass = beanClass;
+        this.field = field;
+        this.type = doGetBeanPropertyType(name, declaredField, readMethod, writeMethod);
+        this.annotations = doGetBeanPropertyAnnotations(declaredField, readMethod, writeMethod);
+    }
+
+    private static Field doGetBeanPropertyField(String name, Class<?> beanClass) {
+        try {
+            return beanClass.getField(name);
+        } catch (NoSuchFieldException e) {
+            logger.debug("PropertyAccess#doGetBeanPropertyField({})not exit!", name);
+        }
+        return null;
+    }
+
+    private static Field doGetDeclaredField(String name, Class<?> beanClass) {
+        try {
+            return Types.getDeclaredField(beanClass, name);
+        } catch (NoSuchFieldException ignored) {
+            return null;
+        }
+    }
+
+    private Type doGetBeanPropertyType(String name, Field declaredField, Method readMethod, Method writeMethod) {
+        if (readMethod != null) {
+            return readMethod.getGenericReturnType();
+        } else if (writeMethod != null) {
+            return Optional.of(writeMethod.getGenericParameterTypes()).map(array -> array[0]).orElse(null);
+        } else if (declaredField != null) {
+            return declaredField.getGenericType();
+        } else {
+            throw new IllegalStateException("property access name:{" + name + " not exit!}");
+        }
+    }
+
+    private Map<Class<?>, Annotation> doGetBeanPropertyAnnotations(Field declaredField, Method readMethod,
+                                                                   Method writeMethod) {
+        Map<Class<?>, Annotation> annotations = new HashMap<>();
+        if (readMethod != null) {
+            annotations.putAll(Arrays.stream(readMethod.getAnnotations())
+                    .collect(Collectors.toMap(Annotation::annotationType, Function.identity())));
+        }
+
+        if (writeMethod != null) {
+            annotations.putAll(Arrays.stream(writeMethod.getAnnotations())
+                    .collect(Collectors.toMap(Annotation::annotationType, Function.identity())));
+        }
+
+        if (declaredField != null) {
+            annotations.putAll(Arrays.stream(declaredField.getAnnotations())
+                    .collect(Collectors.toMap(Annotation::annotationType, Function.identity())));
+        }
+
+        return annotations;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Class<?> extractClass() {
+        return Types.extractClass(type, beanClass);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public boolean isArray() {
+        return Types.isArray(type);
+    }
+
+    public boolean isAccessible() {
+        return getField() != null && getField().isAccessible();
+    }
+
+    public <T> void setValue(Object instance, T value) {
+        Accessors accessors = accessors();
+        if (accessors.canWrite(instance, value)) {
+            try {
+                accessors.setter.accept(instance, value);
+            } catch (RuntimeException e) {
+                throw accessError("set", e);
+            }
+        } else if (writeMethod != null) {
+            doInvoke(instance, writeMethod, value);
+        } else if (field != null) {
+            doSet(instance, field, value);
+        }
+    }
+
+    public boolean isReadAccessible() {
+        return readMethod != null || isAccessible();
+    }
+
+    public boolean isWriteAccessible() {
+        return writeMethod != null || isAccessible();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Object instance) {
+        Accessors accessors = accessors();
+        if (accessors.canRead(instance)) {
+            try {
+                return (T) accessors.getter.apply(instance);
+            } catch (RuntimeException e) {
+                throw accessError("get", e);
+            }
+        } else if (readMethod != null) {
+            return (T) doInvoke(instance, readMethod);
+        } else if (field != null) {
+            return (T) doGet(instance, field);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * 读取int属性，基础类型的公共读方法不装箱
+     *
+     * @param instance 对象
+     * @return 属性值，null返回0
+     */
+    @SuppressWarnings("unchecked")
+    public int getInt(Object instance) {
+        Accessors accessors = accessors();
+        if (accessors.primitiveGetter instanceof ToIntFunction && accessors.canRead(instance)) {
+            try {
+                return ((ToIntFunction<Object>) accessors.primitiveGetter).applyAsInt(instance);
+            } catch (RuntimeException e) {
+                throw accessError("get", e);
+            }
+        }
+        Number value = getValue(instance);
+        return value == null ? 0 : value.intValue();
+    }
+
+    /**
+     * 读取long属性，基础类型的公共读方法不装箱
+     *
+     * @param instance 对象
+     * @return 属性值，null返回0
+     */
+    @SuppressWarnings("unchecked")
+    public long getLong(Object instance) {
+        Accessors accessors = accessors();
+        if (accessors.primitiveGetter instanceof ToLongFunction && accessors.canRead(instance)) {
+            try {
+                return ((ToLongFunction<Object>) accessors.primitiveGetter).applyAsLong(instance);
+            } catch (RuntimeException e) {
+                throw accessError("get", e);
+            }
+        }
+        Number value = getValue(instance);
+        return value == null ? 0L : value.longValue();
+    }
+
+    /**
+     * 读取double属性，基础类型的公共读方法不装箱
+     *
+     * @param instance 对象
+     * @return 属性值，null返回0
+     */
+    @SuppressWarnings("unchecked")
+    public double getDouble(Object instance) {
+        Accessors accessors = accessors();
+        if (accessors.primitiveGetter instanceof ToDoubleFunction && accessors.canRead(instance)) {
+            try {
+                return ((ToDoubleFunction<Object>) accessors.primitiveGetter).applyAsDouble(instance);
+            } catch (RuntimeException e) {
+                throw accessError("get", e);
+            }
+        }
+        Number value = getValue(instance);
+        return value == null ? 0D : value.doubleValue();
+    }
+
+    /**
+     * 读取boolean属性，基础类型的公共读方法不装箱
+     *
+     * @param instance 对象
+     * @return 属性值，null返回false
+     */
+    @SuppressWarnings("unchecked")
+    public boolean getBoolean(Object instance) {
+        Accessors accessors = accessors();
+        if (accessors.primitiveGetter instanceof Predicate && accessors.canRead(instance)) {
+            try {
+                return ((Predicate<Object>) accessors.primitiveGetter).test(instance);
+            } catch (RuntimeException e) {
+                throw accessError("get", e);
+            }
+        }
+        Boolean value = getValue(instance);
+        return value != null && value;
+    }
+
+    /**
+     * 写入int属性，基础类型的公共写方法不装箱
+     *
+     * @param instance 对象
+     * @param value    属性值
+     */
+    @SuppressWarnings("unchecked")
+    public void setInt(Object instance, int value) {
+        Accessors accessors = accessors();
+        if (accessors.primitiveSetter instanceof ObjIntConsumer && accessors.canWrite(instance)) {
+            try {
+                ((ObjIntConsumer<Object>) accessors.primitiveSetter).accept(instance, value);
+            } catch (RuntimeException e) {
+                throw accessError("set", e);
+            }
+        } else {
+            setValue(instance, value);
+        }
+    }
+
+    /**
+     * 写入long属性，基础类型的公共写方法不装箱
+     *
+     * @param instance 对象
+     * @param value    属性值
+     */
+    @SuppressWarnings("unchecked")
+    public void setLong(Object instance, long value) {
+        Accessors accessors = accessors();
+        if (accessors.primitiveSetter instanceof ObjLongConsumer && accessors.canWrite(instance)) {
+            try {
+                ((ObjLongConsumer<Object>) accessors.primitiveSetter).accept(instance, value);
+            } catch (RuntimeException e) {
+                throw accessError("set", e);
+            }
+        } else {
+            setValue(instance, value);
+        }
+    }
+
+    /**
+     * 写入double属性，基础类型的公共写方法不装箱
+     *
+     * @param instance 对象
+     * @param value    属性值
+     */
+    @SuppressWarnings("unchecked")
+    public void setDouble(Object instance, double value) {
+        Accessors accessors = accessors();
+        if (accessors.primitiveSetter instanceof ObjDoubleConsumer && accessors.canWrite(instance)) {
+            try {
+                ((ObjDoubleConsumer<Object>) accessors.primitiveSetter).accept(instance, value);
+            } catch (RuntimeException e) {
+                throw accessError("set", e);
+            }
+        } else {
+            setValue(instance, value);
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Method getReadMethod() {
+        return readMethod;
+    }
+
+    public Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    public Map<Class<?>, Annotation> getAnnotations() {
+        return annotations;
+    }
+
+    public <T extends Annotation> T getAnnotation(Class<? extends Annotation> annotationType) {
+        return (T) annotations.get(annotationType);
+    }
+
+    private Object doInvoke(Object instance, Method method, Object... args) {
+        try {
+            if (method.isAccessible()) {
+                return method.invoke(instance, args);
+            } else {
+                method.setAccessible(true);
+                return method.invoke(instance, args);
+            }
+        } catch (IllegalAccessException ignored) {
+            logger.debug("doInvoke error", ignored);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw accessError(method == readMethod ? "get" : "set", e.getCause());
+        }
+        return null;
+    }
+
+    /* 读写方法自身抛出的异常包装后抛出，Error直接抛出 */
+    private BeansException accessError(String operation, Throwable cause) {
+        return new BeansException("Could not " + operation + " value of property '" + name + "' of ["
+                + beanClass.getName() + "]", cause);
+    }
+
+    private Object doGet(Object instance, Field field) {
+        try {
+            if (field.isAccessible()) {
+                return field.get(instance);
+            } else {
+                field.setAccessible(true);
+                return field.get(instance);
+            }
+        } catch (IllegalAccessException ignored) {
+            logger.debug("doGet error", ignored);
+        }
+        return null;
+    }
+
+    private void doSet(Object instance, Field field, Object value) {
+        try {
+            if (field.isAccessible()) {
+                field.set(instance, value);
+            } else {
+                field.setAccessible(true);
+                field.set(instance, value);
+            }
+        } catch (IllegalAccessException ignored) {
+            logger.debug("doSet error", ignored);
+        }
+    }
+
+    private Accessors accessors() {
+        Accessors current = accessors;
+        if (current == null) {
+            current = new Accessors(readMethod, writeMethod, field);
+            accessors = current;
+        }
+        return current;
+    }
+
+    @Override
+    protected Object clone() {
+        try {
+            return super.clone();
+        } catch (CloneNotSupportedException ignored) {
+            logger.debug("clone error", ignored);
+        }
+        return null;
+    }
+
+    /**
+     * 绑定后的访问器，无法绑定时为null并回退到反射
+     */
+    private static final class Accessors {
+
+        private final Function<Object, Object> getter;
+        private final Class<?> readClass;
+        private final BiConsumer<Object, Object> setter;
+        private final Class<?> writeClass;
+        private final Class<?> valueClass;
+        private final boolean primitive;
+        private final Object primitiveGetter;
+        private final Object primitiveSetter;
+
+        Accessors(Method readMethod, Method writeMethod, Field field) {
+            if (readMethod != null) {
+                this.getter = PropertyAccessors.getter(readMethod);
+                this.readClass = readMethod.getDeclaringClass();
+                this.primitiveGetter = PropertyAccessors.primitiveGetter(readMethod);
+            } else {
+                this.getter = field == null ? null : PropertyAccessors.getter(field);
+                this.readClass = field == null ? null : field.getDeclaringClass();
+                this.primitiveGetter = null;
+            }
+            Class<?> valueType;
+            if (writeMethod != null) {
+                this.setter = PropertyAccessors.setter(writeMethod);
+                this.writeClass = writeMethod.getDeclaringClass();
+                this.primitiveSetter = PropertyAccessors.primitiveSetter(writeMethod);
+                valueType = writeMethod.getParameterTypes()[0];
+            } else {
+                this.setter = field == null ? null : PropertyAccessors.setter(field);
+                this.writeClass = field == null ? null : field.getDeclaringClass();
+                this.primitiveSetter = null;
+                valueType = field == null ? Object.class : field.getType();
+            }
+            this.primitive = valueType.isPrimitive();
+            this.valueClass = Types.getWrapperType(valueType);
+        }
+
+        /* 对象类型不符时交由反射处理，保持原有异常 */
+        boolean canRead(Object instance) {
+            return getter != null && readClass.isInstance(instance);
+        }
+
+        boolean canWrite(Object instance) {
+            return setter != null && writeClass.isInstance(instance);
+        }
+
+        /* 参数为null或需要基础类型拓宽时交由反射处理 */
+        boolean canWrite(Object instance, Object value) {
+            return canWrite(instance) && (value == null ? !primitive : valueClass.isInstance(value));
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.sprint.common.converter.conversion.nested.bean.introspection;
+
+import com.sprint.common.converter.util.Types;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.*;
+
+/**
+ * 属性访问器生成
+ * <p>
+ * 公共类的公共方法（构造方法）通过 LambdaMetafactory 生成 Function/BiConsumer（Supplier），基础类型属性额外生成不装箱的访问器；
+ * 其余成员退化为 MethodHandle；均无法绑定时返回null，由调用方使用反射。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class PropertyAccessors {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyAccessors.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private PropertyAccessors() {
+    }
+
+    /**
+     * 生成无参构造方法的实例化器
+     *
+     * @param clazz 类型
+     * @param <T>   t
+     * @return 实例化器，非公共类或无公共无参构造方法返回null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> instantiator(Class<T> clazz) {
+        if (clazz.isInterface() || clazz.isArray() || clazz.isPrimitive()
+                || Modifier.isAbstract(clazz.getModifiers()) || !Modifier.isPublic(clazz.getModifiers())
+                || !isVisible(clazz)) {
+            return null;
+        }
+        Constructor<T> constructor = Types.getConstructorIfAvailable(clazz);
+        if (constructor == null) {
+            return null;
+        }
+        try {
+            MethodHandle implementation = LOOKUP.unreflectConstructor(constructor);
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), implementation, MethodType.methodType(clazz));
+            return (Supplier<T>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            logger.debug("PropertyAccessors#instantiator({}) error", clazz, e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成有参构造方法的调用器，参数按数组传入
+     *
+     * @param constructor 构造方法
+     * @return 调用器，不支持返回null
+     */
+    public static Function<Object[], Object> constructor(Constructor<?> constructor) {
+        if (!makeAccessible(constructor)) {
+            return null;
+        }
+        try {
+            int parameterCount = constructor.getParameterCount();
+            MethodHandle invoker = LOOKUP.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, parameterCount)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return args -> {
+                try {
+                    return invoker.invokeExact(args);
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            logger.debug("PropertyAccessors#constructor({}) not accessible", constructor, e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成读方法访问器
+     *
+     * @param method 读方法
+     * @return 访问器，不支持返回null
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (isLambdaCapable(method, returnType)) {
+            Object lambda = metafactory(method, Function.class, "apply", GETTER_TYPE,
+                    MethodType.methodType(Types.getWrapperType(returnType), method.getDeclaringClass()));
+            if (lambda != null) {
+                return (Function<Object, Object>) lambda;
+            }
+        }
+        MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            return null;
+        }
+        MethodHandle getter = handle.asType(GETTER_TYPE);
+        return instance -> {
+            try {
+                return getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * 生成写方法访问器
+     *
+     * @param method 写方法
+     * @return 访问器，不支持返回null
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(Method method) {
+        Class<?> parameterType = method.getParameterTypes()[0];
+        if (isLambdaCapable(method, parameterType)) {
+            Object lambda = metafactory(method, BiConsumer.class, "accept", SETTER_TYPE,
+                    MethodType.methodType(void.class, method.getDeclaringClass(),
+                            Types.getWrapperType(parameterType)));
+            if (lambda != null) {
+                return (BiConsumer<Object, Object>) lambda;
+            }
+        }
+        MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            return null;
+        }
+        MethodHandle setter = handle.asType(SETTER_TYPE);
+        return (instance, value) -> {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * 生成字段读取器
+     *
+     * @param field 字段
+     * @return 访问器，不支持返回null
+     */
+    static Function<Object, Object> getter(Field field) {
+        if (!makeAccessible(field)) {
+            return null;
+        }
+        try {
+            MethodHandle getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+            return instance -> {
+                try {
+                    return getter.invokeExact(instance);
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            logger.debug("PropertyAccessors#getter({}) not accessible", field, e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成字段写入器
+     *
+     * @param field 字段
+     * @return 访问器，不支持返回null
+     */
+    static BiConsumer<Object, Object> setter(Field field) {
+        if (!makeAccessible(field)) {
+            return null;
+        }
+        try {
+            MethodHandle setter = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+            return (instance, value) -> {
+                try {
+                    setter.invokeExact(instance, value);
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            logger.debug("PropertyAccessors#setter({}) not accessible", field, e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成基础类型读方法访问器：ToIntFunction（int/short/byte/char 拓宽为int）、ToLongFunction、
+     * ToDoubleFunction（double/float 拓宽为double）、Predicate
+     *
+     * @param method 读方法
+     * @return 访问器，非基础类型或不支持返回null
+     */
+    static Object primitiveGetter(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (!isLambdaCapable(method, returnType)) {
+            return null;
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (returnType == int.class || returnType == short.class || returnType == byte.class
+                || returnType == char.class) {
+            return metafactory(method, ToIntFunction.class, "applyAsInt",
+                    MethodType.methodType(int.class, Object.class), MethodType.methodType(int.class, declaringClass));
+        } else if (returnType == long.class) {
+            return metafactory(method, ToLongFunction.class, "applyAsLong",
+                    MethodType.methodType(long.class, Object.class), MethodType.methodType(long.class, declaringClass));
+        } else if (returnType == double.class || returnType == float.class) {
+            return metafactory(method, ToDoubleFunction.class, "applyAsDouble",
+                    MethodType.methodType(double.class, Object.class),
+                    MethodType.methodType(double.class, declaringClass));
+        } else if (returnType == boolean.class) {
+            return metafactory(method, Predicate.class, "test",
+                    MethodType.methodType(boolean.class, Object.class),
+                    MethodType.methodType(boolean.class, declaringClass));
+        }
+        return null;
+    }
+
+    /**
+     * 生成基础类型写方法访问器：ObjIntConsumer、ObjLongConsumer、ObjDoubleConsumer
+     *
+     * @param method 写方法
+     * @return 访问器，非基础类型或不支持返回null
+     */
+    static Object primitiveSetter(Method method) {
+        Class<?> parameterType = method.getParameterTypes()[0];
+        if (!isLambdaCapable(method, parameterType)) {
+            return null;
+        }
+        MethodType instantiatedType = MethodType.methodType(void.class, method.getDeclaringClass(), parameterType);
+        if (parameterType == int.class) {
+            return metafactory(method, ObjIntConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, int.class), instantiatedType);
+        } else if (parameterType == long.class) {
+            return metafactory(method, ObjLongConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, long.class), instantiatedType);
+        } else if (parameterType == double.class) {
+            return metafactory(method, ObjDoubleConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, double.class), instantiatedType);
+        }
+        return null;
+    }
+
+    private static Object metafactory(Method method, Class<?> functionalInterface, String name,
+                                      MethodType samType, MethodType instantiatedType) {
+        try {
+            MethodHandle implementation = LOOKUP.unreflect(method);
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, name,
+                    MethodType.methodType(functionalInterface), samType, implementation, instantiatedType);
+            return callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            logger.debug("PropertyAccessors#metafactory({}) error", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成的类定义在本类的类加载器中，仅公共类的公共实例方法且相关类型对其可见时可用
+     */
+    private static boolean isLambdaCapable(Method method, Class<?> valueType) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        return !Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getModifiers())
+                && Modifier.isPublic(declaringClass.getModifiers()) && isVisible(declaringClass)
+                && isVisible(valueType);
+    }
+
+    private static boolean isVisible(Class<?> clazz) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(clazz.getName(), false, PropertyAccessors.class.getClassLoader()) == clazz;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        if (!makeAccessible(method)) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            logger.debug("PropertyAccessors#unreflect({}) not accessible", method, e);
+            return null;
+        }
+    }
+
+    private static boolean makeAccessible(AccessibleObject accessibleObject) {
+        try {
+            accessibleObject.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("PropertyAccessors#makeAccessible({}) error", accessibleObject, e);
+            return false;
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new UndeclaredThrowableException(e);
+    }
+}
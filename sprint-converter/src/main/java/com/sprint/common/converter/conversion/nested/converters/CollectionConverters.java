@@ -36,7 +36,7 @@ public class CollectionConverters implements NestedConverterLoader {
         public Object convert(Object sourceValue, Type targetBeanType, Type targetFiledType)
                 throws ConversionException {
             Class<?> extractClass = Types.extractClass(targetFiledType, targetBeanType);
-            Collection<Object> targetCValue = Beans.instanceCollection(extractClass);
+            Collection<Object> targetCValue = Beans.instanceCollection(extractClass, Array.getLength(sourceValue));
             Type actualType = Types.getCollectionItemType(targetBeanType, targetFiledType);
             for (int i = 0, length = Array.getLength(sourceValue); i < length; i++) {
                 Object item = Array.get(sourceValue, i);
@@ -76,8 +76,8 @@ public class CollectionConverters implements NestedConverterLoader {
             Collection<?> collection = (Collection<?>) sourceValue;
             Class<?> extractClass = Types.extractClass(targetFiledType, targetBeanType);
             Collection<Object> targetCValue = extractClass.isAssignableFrom(collection.getClass())
-                    ? Beans.instanceCollection(collection.getClass())
-                    : Beans.instanceCollection(extractClass);
+                    ? Beans.instanceCollection(collection.getClass(), collection.size())
+                    : Beans.instanceCollection(extractClass, collection.size());
             if (Types.isBean(targetCValue.getClass())) {
                 Beans.copyProperties(collection, targetCValue, true, true, false, Types.COLLECTION_IGNORES);
             }
@@ -118,7 +118,7 @@ public class CollectionConverters implements NestedConverterLoader {
                 return null;
             }
             Class<?> extractClass = Types.extractClass(targetFiledType, targetBeanType);
-            Collection<Object> targetCValue = Beans.instanceCollection(extractClass);
+            Collection<Object> targetCValue = Beans.instanceCollection(extractClass, 1);
             Type actualType = Types.getCollectionItemType(targetBeanType, targetFiledType);
             Class<?> actualTypeClass = Types.extractClass(actualType);
             if (Types.isBean(actualTypeClass) && Types.isBean(extractClass)) {
@@ -6,7 +6,6 @@ import com.sprint.common.converter.conversion.nested.NestedConverters;
 import com.sprint.common.converter.conversion.nested.json.JsonException;
 import com.sprint.common.converter.conversion.nested.json.Jsons;
 import com.sprint.common.converter.exception.ConversionException;
-import com.sprint.common.converter.exception.NotSupportConvertException;
 import com.sprint.common.converter.util.Types;
 
 import java.lang.reflect.Type;
@@ -20,6 +19,25 @@ import java.util.Map;
  * @since 2021/1/25
  */
 public class JsonConverters implements NestedConverterLoader {
+
+    private static Object tryParseObject(String jsonStr) {
+        try {
+            Object map = Jsons.toJavaObject(jsonStr, LinkedHashMap.class);
+            return map == null ? NestedConverter.NO_MATCH : map;
+        } catch (JsonException e) {
+            return NestedConverter.NO_MATCH;
+        }
+    }
+
+    private static Object tryParseArray(String jsonStr) {
+        try {
+            Collection<?> list = Jsons.toJavaObjects(jsonStr, Types.OBJECT_CLASS, ArrayList.class);
+            return list == null ? NestedConverter.NO_MATCH : list;
+        } catch (JsonException e) {
+            return NestedConverter.NO_MATCH;
+        }
+    }
+
     /**
      * 集合或者Bean 转json
      */
@@ -50,10 +68,46 @@ public class JsonConverters implements NestedConverterLoader {
         }
     }
 
+    /**
+     * json字符串转换，解析失败时返回 {@link NestedConverter#NO_MATCH}，convert 由 tryConvert 推导
+     */
+    abstract static class JsonStrConverter implements NestedConverter {
+
+        /**
+         * 解析json字符串
+         *
+         * @param jsonStr json字符串
+         * @return 解析结果或 {@link NestedConverter#NO_MATCH}
+         */
+        abstract Object parse(String jsonStr);
+
+        @Override
+        public Object tryConvert(Object sourceValue, Type targetBeanType, Type targetFiledType)
+                throws ConversionException {
+            if (!preCheckSourceVal(sourceValue)) {
+                return NO_MATCH;
+            }
+            Object value = parse((String) sourceValue);
+            if (value == NO_MATCH) {
+                return NO_MATCH;
+            }
+            return NestedConverters.convert(value, targetBeanType, targetFiledType);
+        }
+
+        @Override
+        public Object convert(Object sourceValue, Type targetBeanType, Type targetFiledType)
+                throws ConversionException {
+            if (sourceValue == null) {
+                return null;
+            }
+            return convertMatched(sourceValue, targetBeanType, targetFiledType);
+        }
+    }
+
     /**
      * Json转bean
      */
-    public static class JsonStr2Bean implements NestedConverter {
+    public static class JsonStr2Bean extends JsonStrConverter {
 
         @Override
         public int sort() {
@@ -71,29 +125,15 @@ public class JsonConverters implements NestedConverterLoader {
         }
 
         @Override
-        public Object convert(Object sourceValue, Type targetBeanType, Type targetFiledType)
-                throws ConversionException {
-            if (sourceValue == null) {
-                return null;
-            }
-            String jsonStr = (String) sourceValue;
-
-            if (!Types.isJsonObject(jsonStr)) {
-                throw new NotSupportConvertException(sourceValue.getClass(), Types.extractClass(targetFiledType, targetBeanType));
-            }
-            try {
-                Object map = Jsons.toJavaObject(jsonStr, LinkedHashMap.class);
-                return NestedConverters.convert(map, targetBeanType, targetFiledType);
-            } catch (JsonException e) {
-                throw new ConversionException(e);
-            }
+        Object parse(String jsonStr) {
+            return tryParseObject(jsonStr);
         }
     }
 
     /**
      * Json转bean
      */
-    public static class JsonStr2Map implements NestedConverter {
+    public static class JsonStr2Map extends JsonStrConverter {
 
         @Override
         public int sort() {
@@ -111,29 +151,15 @@ public class JsonConverters implements NestedConverterLoader {
         }
 
         @Override
-        public Object convert(Object sourceValue, Type targetBeanType, Type targetFiledType)
-                throws ConversionException {
-            if (sourceValue == null) {
-                return null;
-            }
-            String jsonStr = (String) sourceValue;
-
-            if (!Types.isJsonObject(jsonStr)) {
-                throw new NotSupportConvertException(sourceValue.getClass(), Types.extractClass(targetFiledType, targetBeanType));
-            }
-            try {
-                Object map = Jsons.toJavaObject(jsonStr, LinkedHashMap.class);
-                return NestedConverters.convert(map, targetBeanType, targetFiledType);
-            } catch (JsonException e) {
-                throw new ConversionException(e);
-            }
+        Object parse(String jsonStr) {
+            return tryParseObject(jsonStr);
         }
     }
 
     /**
      * json 转集合
      */
-    public static class JsonStr2Collection implements NestedConverter {
+    public static class JsonStr2Collection extends JsonStrConverter {
 
         @Override
         public int sort() {
@@ -151,31 +177,15 @@ public class JsonConverters implements NestedConverterLoader {
         }
 
         @Override
-        public Object convert(Object sourceValue, Type targetBeanType, Type targetFiledType)
-                throws ConversionException {
-            if (sourceValue == null) {
-                return null;
-            }
-
-            String jsonStr = (String) sourceValue;
-
-            if (!Types.isJsonArray(jsonStr)) {
-                throw new NotSupportConvertException(sourceValue.getClass(), Types.extractClass(targetFiledType, targetBeanType));
-            }
-
-            try {
-                Collection<?> list = Jsons.toJavaObjects(jsonStr, Types.OBJECT_CLASS, ArrayList.class);
-                return NestedConverters.convert(list, targetBeanType, targetFiledType);
-            } catch (JsonException e) {
-                throw new ConversionException(e);
-            }
+        Object parse(String jsonStr) {
+            return tryParseArray(jsonStr);
         }
     }
 
     /**
      * json 转集合
      */
-    public static class JsonStr2Array implements NestedConverter {
+    public static class JsonStr2Array extends JsonStrConverter {
 
         @Override
         public int sort() {
@@ -193,24 +203,8 @@ public class JsonConverters implements NestedConverterLoader {
         }
 
         @Override
-        public Object convert(Object sourceValue, Type targetBeanType, Type targetFiledType)
-                throws ConversionException {
-            if (sourceValue == null) {
-                return null;
-            }
-
-            String jsonStr = (String) sourceValue;
-
-            if (!Types.isJsonArray(jsonStr)) {
-                throw new NotSupportConvertException(sourceValue.getClass(), Types.extractClass(targetFiledType, targetBeanType));
-            }
-
-            try {
-                Collection<?> list = Jsons.toJavaObjects(jsonStr, Types.OBJECT_CLASS, ArrayList.class);
-                return NestedConverters.convert(list, targetBeanType, targetFiledType);
-            } catch (JsonException e) {
-                throw new ConversionException(e);
-            }
+        Object parse(String jsonStr) {
+            return tryParseArray(jsonStr);
         }
     }
 }
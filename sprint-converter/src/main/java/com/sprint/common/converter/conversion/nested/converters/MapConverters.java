@@ -40,8 +40,8 @@ public class MapConverters implements NestedConverterLoader {
             Map<?, ?> mValue = (Map<?, ?>) sourceValue;
             Class<?> extractClass = Types.extractClass(targetFiledType, targetBeanType);
             Map<Object, Object> targetMValue = extractClass.isAssignableFrom(mValue.getClass())
-                    ? Beans.instanceMap(mValue.getClass())
-                    : Beans.instanceMap(extractClass);
+                    ? Beans.instanceMap(mValue.getClass(), mValue.size())
+                    : Beans.instanceMap(extractClass, mValue.size());
 
             if (Types.isBean(targetMValue.getClass())) {
                 Beans.copyProperties(mValue, targetMValue, true, true, false, Types.MAP_IGNORES);
@@ -1,5 +1,6 @@
 package com.sprint.common.converter.conversion.nested.json;
 
+import com.sprint.common.converter.ConverterEngine;
 import com.sprint.common.converter.conversion.nested.bean.Beans;
 import com.sprint.common.converter.util.Types;
 import org.slf4j.Logger;
@@ -21,32 +22,31 @@ public class Jsons {
 
     private static final Logger log = LoggerFactory.getLogger(Jsons.class);
 
-    private static JsonConverter jsonConverter;
-
     /**
-     * 设置一些通用的属性
+     * 加载JsonConverter：优先使用SPI声明的实现，其次classpath中存在jackson时使用jackson
+     *
+     * @param loader classLoader
+     * @return JsonConverter，无可用实现返回null
      */
-    static {
-        ClassLoader loader = Thread.currentThread().getContextClassLoader();
-
+    public static JsonConverter loadJsonConverter(ClassLoader loader) {
         for (JsonConverter jsonConverter : ServiceLoader.load(JsonConverter.class, loader)) {
-            Jsons.jsonConverter = jsonConverter;
             log.warn("Jsons use {} as JsonConverter.", jsonConverter.getClass().getName());
-            break;
+            return jsonConverter;
         }
 
-        if (jsonConverter == null) {
-            try {
-                Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
-                Jsons.jsonConverter = (JsonConverter) Beans.instance(
-                        Types.forName("com.sprint.common.converter.conversion.nested.json.JacksonConverter", Types.getDefaultClassLoader()));
-                log.warn("Jsons use jackson as JsonConverter.");
-            } catch (Throwable ignored) {
-            }
+        try {
+            Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
+            JsonConverter jsonConverter = (JsonConverter) Beans.instance(
+                    Types.forName("com.sprint.common.converter.conversion.nested.json.JacksonConverter", Types.getDefaultClassLoader()));
+            log.warn("Jsons use jackson as JsonConverter.");
+            return jsonConverter;
+        } catch (Throwable ignored) {
         }
+        return null;
     }
 
     public static String toJsonString(Object obj) throws JsonException {
+        JsonConverter jsonConverter = ConverterEngine.current().getJsonConverter();
         if (jsonConverter == null) {
             return null;
         }
@@ -54,6 +54,7 @@ public class Jsons {
     }
 
     public static <T> T toJavaObject(String value, Type type) throws JsonException {
+        JsonConverter jsonConverter = ConverterEngine.current().getJsonConverter();
         if (jsonConverter == null) {
             return null;
         }
@@ -62,6 +63,7 @@ public class Jsons {
 
     public static <T> Collection<T> toJavaObjects(String value, Type type, Class<?> collectionType)
             throws JsonException {
+        JsonConverter jsonConverter = ConverterEngine.current().getJsonConverter();
         if (jsonConverter == null) {
             return null;
         }
@@ -69,6 +71,7 @@ public class Jsons {
     }
 
     public static <T> Collection<T> toJavaObjectList(String value, Type type) throws JsonException {
+        JsonConverter jsonConverter = ConverterEngine.current().getJsonConverter();
         if (jsonConverter == null) {
             return null;
         }
@@ -0,0 +1,127 @@
+package com.sprint.common.converter.conversion.specific;
+
+import java.util.*;
+
+/**
+ * 指定类型转换器索引
+ * <p>
+ * 按源类型层级（自身、父类、接口，由近及远）查找，同一层级内优先选择目标类型最具体的转换器，
+ * 仍无法区分时按转换器类名排序，保证结果稳定。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+final class SpecificConverterIndex {
+
+    static final SpecificConverterIndex EMPTY = new SpecificConverterIndex(Collections.emptyList());
+
+    private static final Comparator<SpecificConverter<?, ?>> STABLE_ORDER = Comparator
+            .comparing((SpecificConverter<?, ?> item) -> item.getClass().getName())
+            .thenComparing(item -> item.getTargetClass().getName());
+
+    /* 源类型 -> 转换器（稳定排序） */
+    private final Map<Class<?>, List<SpecificConverter<?, ?>>> sourceIndex;
+
+    /* 全部转换器（稳定排序），用于自定义support的兜底查找 */
+    private final List<SpecificConverter<?, ?>> converters;
+
+    SpecificConverterIndex(Collection<SpecificConverter<?, ?>> specificConverters) {
+        List<SpecificConverter<?, ?>> converters = new ArrayList<>(specificConverters);
+        converters.sort(STABLE_ORDER);
+        Map<Class<?>, List<SpecificConverter<?, ?>>> sourceIndex = new HashMap<>();
+        for (SpecificConverter<?, ?> converter : converters) {
+            sourceIndex.computeIfAbsent(converter.getSourceClass(), k -> new ArrayList<>(4)).add(converter);
+        }
+        this.sourceIndex = sourceIndex;
+        this.converters = Collections.unmodifiableList(converters);
+    }
+
+    /**
+     * 查找最具体的转换器
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return 转换器，不支持返回null
+     */
+    SpecificConverter<?, ?> find(Class<?> sourceClass, Class<?> targetClass) {
+        List<SpecificConverter<?, ?>> candidates = findCandidates(sourceClass, targetClass);
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    /**
+     * 查找同等具体的候选转换器，多于一个时说明存在歧义（按稳定顺序取第一个）
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return 候选转换器
+     */
+    List<SpecificConverter<?, ?>> findCandidates(Class<?> sourceClass, Class<?> targetClass) {
+        for (Class<?> candidateSource : hierarchy(sourceClass)) {
+            List<SpecificConverter<?, ?>> registered = sourceIndex.get(candidateSource);
+            if (registered == null) {
+                continue;
+            }
+            List<SpecificConverter<?, ?>> matched = mostSpecificTarget(registered, sourceClass, targetClass);
+            if (!matched.isEmpty()) {
+                return matched;
+            }
+        }
+        for (SpecificConverter<?, ?> converter : converters) {
+            if (converter.support(sourceClass, targetClass)) {
+                return Collections.singletonList(converter);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<SpecificConverter<?, ?>> mostSpecificTarget(List<SpecificConverter<?, ?>> registered,
+                                                                     Class<?> sourceClass, Class<?> targetClass) {
+        List<SpecificConverter<?, ?>> matched = new ArrayList<>(2);
+        for (SpecificConverter<?, ?> converter : registered) {
+            if (!converter.support(sourceClass, targetClass)) {
+                continue;
+            }
+            Class<?> converterTarget = converter.getTargetClass();
+            if (converterTarget == targetClass) {
+                return Collections.singletonList(converter);
+            }
+            boolean dominated = false;
+            for (Iterator<SpecificConverter<?, ?>> iterator = matched.iterator(); iterator.hasNext(); ) {
+                Class<?> matchedTarget = iterator.next().getTargetClass();
+                if (matchedTarget.isAssignableFrom(converterTarget)) {
+                    iterator.remove();
+                } else if (converterTarget.isAssignableFrom(matchedTarget)) {
+                    dominated = true;
+                }
+            }
+            if (!dominated) {
+                matched.add(converter);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 源类型层级：自身，随后按广度优先依次为父类、接口
+     */
+    private static Collection<Class<?>> hierarchy(Class<?> sourceClass) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(sourceClass);
+        while (!queue.isEmpty()) {
+            Class<?> clazz = queue.poll();
+            if (!hierarchy.add(clazz)) {
+                continue;
+            }
+            if (clazz.getSuperclass() != null) {
+                queue.add(clazz.getSuperclass());
+            }
+            queue.addAll(Arrays.asList(clazz.getInterfaces()));
+        }
+        if (!sourceClass.isPrimitive() && !sourceClass.isInterface()) {
+            hierarchy.add(Object.class);
+        }
+        return hierarchy;
+    }
+}
@@ -0,0 +1,154 @@
+package com.sprint.common.converter.conversion.specific;
+
+import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.util.ClassPairTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 指定类型转换器注册表
+ * <p>
+ * 每个 ConverterEngine 持有一份，写时复制，通过volatile引用发布快照。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class SpecificConverterRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpecificConverterRegistry.class);
+
+    private static final String DELIMITER = "->";
+
+    /* 转换器注册表快照 */
+    private volatile Snapshot snapshot = new Snapshot(0L, Collections.emptyMap());
+
+    public void loadContainedConverters(Class<?> containerClass) {
+        Class<?>[] classes = containerClass.getClasses();
+        for (Class<?> clz : classes) {
+            if (!Modifier.isAbstract(clz.getModifiers())) {
+                try {
+                    Object value = clz.getConstructor().newInstance();
+                    if (value instanceof SpecificConverter) {
+                        registerSpecificConverter(Converter.doEnforce(value));
+                    }
+                } catch (Exception e) {
+                    logger.error("Error load converter ", e);
+                }
+            }
+        }
+    }
+
+    private static String getKey(Class<?> sourceClass, Class<?> targetClass) {
+        return sourceClass.getName().concat(DELIMITER).concat(targetClass.getName());
+    }
+
+    public synchronized void registerSpecificConverter(SpecificConverter<?, ?> specificConverter) {
+        String key = getKey(specificConverter.getSourceClass(), specificConverter.getTargetClass());
+        Snapshot current = snapshot;
+        Map<String, SpecificConverter<?, ?>> converters = new HashMap<>(current.converters);
+        converters.put(key, specificConverter);
+        snapshot = new Snapshot(current.epoch + 1, converters);
+    }
+
+    /**
+     * 获取已注册的转换器
+     *
+     * @return 转换器
+     */
+    public Collection<SpecificConverter<?, ?>> getSpecificConverters() {
+        return snapshot.converters.values();
+    }
+
+    /**
+     * 注册表版本号，每次注册转换器递增
+     *
+     * @return 版本号
+     */
+    public long getEpoch() {
+        return snapshot.epoch;
+    }
+
+    SpecificConverter<?, ?> findSupportConverter(Class<?> sourceClass, Class<?> targetClass) {
+        return snapshot.index.find(sourceClass, targetClass);
+    }
+
+    /**
+     * 查找同等具体的候选转换器，多于一个时说明存在歧义
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @return 候选转换器
+     */
+    public List<SpecificConverter<?, ?>> getCandidates(Class<?> sourceClass, Class<?> targetClass) {
+        Snapshot current = snapshot;
+        SpecificConverter<?, ?> specificConverter = current.converters.get(getKey(sourceClass, targetClass));
+        if (specificConverter != null) {
+            return Collections.singletonList(specificConverter);
+        }
+        return current.index.findCandidates(sourceClass, targetClass);
+    }
+
+    /**
+     * 是否支持
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @return support
+     */
+    public boolean support(Class<?> sourceClass, Class<?> targetClass) {
+        return getConverter(sourceClass, targetClass) != null;
+    }
+
+    /**
+     * 获取转换器
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @param <S>         s
+     * @param <T>         t
+     * @return converter
+     */
+    public <S, T> Converter<S, T> getConverter(Class<S> sourceClass, Class<T> targetClass) {
+        return Converter.doEnforce(snapshot.table.get(sourceClass, targetClass));
+    }
+
+    /**
+     * 注册表快照：转换器、索引与类型对缓存同属一个版本，注册新转换器时整体替换
+     */
+    private static final class Snapshot {
+
+        private final long epoch;
+        private final Map<String, SpecificConverter<?, ?>> converters;
+        private final SpecificConverterIndex index;
+        private final ClassPairTable<Converter<Object, Object>> table = new ClassPairTable<>(this::resolveConverter);
+
+        Snapshot(long epoch, Map<String, SpecificConverter<?, ?>> converters) {
+            this.epoch = epoch;
+            this.converters = Collections.unmodifiableMap(converters);
+            this.index = converters.isEmpty() ? SpecificConverterIndex.EMPTY
+                    : new SpecificConverterIndex(converters.values());
+        }
+
+        private Converter<Object, Object> resolveConverter(Class<?> sourceClass, Class<?> targetClass) {
+            SpecificConverter<?, ?> specificConverter = converters.get(getKey(sourceClass, targetClass));
+
+            if (specificConverter == null) {
+                specificConverter = index.find(sourceClass, targetClass);
+            }
+            if (specificConverter == null) {
+                return null;
+            }
+            SpecificConverter<Object, Object> finalSpecificConverter = Converter.doEnforce(specificConverter);
+
+            return finalSpecificConverter::convert;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.sprint.common.converter.conversion.specific;
+
+import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.ConverterEngine;
+
+/**
+ * 指定类型转化器
+ * <p>
+ * 静态入口，委托给当前 ConverterEngine 的注册表。
+ * </p>
+ *
+ * @author hongfeng.li
+ * @version 1.0
+ * @since 2021年02月05日
+ */
+public final class SpecificConverters {
+
+    private SpecificConverters() {
+    }
+
+    private static SpecificConverterRegistry registry() {
+        return ConverterEngine.current().getSpecificConverters();
+    }
+
+    public static void loadContainedConverters(Class<?> containerClass) {
+        registry().loadContainedConverters(containerClass);
+    }
+
+    public static void registerSpecificConverter(SpecificConverter<?, ?> specificConverter) {
+        registry().registerSpecificConverter(specificConverter);
+    }
+
+    /**
+     * 注册表版本号，每次注册转换器递增
+     *
+     * @return 版本号
+     */
+    public static long getEpoch() {
+        return registry().getEpoch();
+    }
+
+    static SpecificConverter<?, ?> findSupportConverter(Class<?> sourceClass, Class<?> targetClass) {
+        return registry().findSupportConverter(sourceClass, targetClass);
+    }
+
+    /**
+     * 是否支持
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @return support
+     */
+    public static boolean support(Class<?> sourceClass, Class<?> targetClass) {
+        return registry().support(sourceClass, targetClass);
+    }
+
+    /**
+     * 获取转换器
+     *
+     * @param sourceClass sourceClass
+     * @param targetClass targetClass
+     * @param <S>         s
+     * @param <T>         t
+     * @return converter
+     */
+    public static <S, T> Converter<S, T> getConverter(Class<S> sourceClass, Class<T> targetClass) {
+        return registry().getConverter(sourceClass, targetClass);
+    }
+}
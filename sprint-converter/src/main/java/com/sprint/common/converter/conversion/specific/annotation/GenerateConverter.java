@@ -0,0 +1,52 @@
+package com.sprint.common.converter.conversion.specific.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 编译期生成指定类型转换器
+ * <p>
+ * 由 sprint-converter-processor 处理：为 source -&gt; target 生成 SpecificConverter 实现，
+ * 并通过 META-INF/services 注册 SpecificConverterLoader，运行时无需反射内省。
+ * 属性按 PropertyInfo 的名称与读写限制匹配，基础类型属性使用 BaseConverter 转换。
+ * </p>
+ *
+ * <pre>
+ * &#64;GenerateConverter(source = Student.class, target = StudentDTO.class)
+ * public interface StudentConverters {
+ * }
+ * </pre>
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Documented
+@Repeatable(GenerateConverter.List.class)
+public @interface GenerateConverter {
+
+    /**
+     * 源类型
+     *
+     * @return 源类型
+     */
+    Class<?> source();
+
+    /**
+     * 目标类型，须有公共无参构造方法
+     *
+     * @return 目标类型
+     */
+    Class<?> target();
+
+    /**
+     * 同一类型上声明多个转换器
+     */
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.CLASS)
+    @Documented
+    @interface List {
+
+        GenerateConverter[] value();
+    }
+}
@@ -0,0 +1,130 @@
+package com.sprint.common.converter.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+/**
+ * 类型对缓存表
+ * <p>
+ * 内置基础类型（基本类型、包装类、String、BigDecimal/BigInteger、Date/Timestamp、java.time）分配序号，
+ * 通过 N×N 稠密数组直接定位；其他类型使用 ClassValue 二级表，结果挂在目标类型上，
+ * 源类型只持有以目标类型为键的 ClassValue，不会阻止目标类型的类加载器卸载。正反结果（含不支持）均缓存。
+ * </p>
+ *
+ * @param <V> 缓存值类型
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public final class ClassPairTable<V> {
+
+    private static final Class<?>[] DENSE_CLASSES = {
+            boolean.class, Boolean.class, byte.class, Byte.class, char.class, Character.class,
+            short.class, Short.class, int.class, Integer.class, long.class, Long.class,
+            float.class, Float.class, double.class, Double.class,
+            String.class, BigDecimal.class, BigInteger.class, Number.class,
+            Date.class, java.sql.Date.class, Timestamp.class,
+            LocalDate.class, LocalDateTime.class, LocalTime.class, Year.class, YearMonth.class,
+            byte[].class, char[].class};
+
+    private static final int DENSE_SIZE = DENSE_CLASSES.length;
+
+    private static final Integer NOT_DENSE = -1;
+
+    private static final ClassValue<Integer> ORDINALS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < DENSE_SIZE; i++) {
+                if (DENSE_CLASSES[i] == type) {
+                    return i;
+                }
+            }
+            return NOT_DENSE;
+        }
+    };
+
+    /* 不支持的占位 */
+    private static final Object NONE = new Object();
+
+    private final BiFunction<Class<?>, Class<?>, V> resolver;
+
+    private volatile Table table = new Table();
+
+    public ClassPairTable(BiFunction<Class<?>, Class<?>, V> resolver) {
+        Assert.notNull(resolver, "resolver can't be null");
+        this.resolver = resolver;
+    }
+
+    /**
+     * 获取内置类型序号
+     *
+     * @param clazz 类型
+     * @return 序号，非内置类型返回-1
+     */
+    public static int ordinal(Class<?> clazz) {
+        return ORDINALS.get(clazz);
+    }
+
+    /**
+     * 获取缓存值，不存在时解析并缓存
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return 缓存值，不支持返回null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Class<?> sourceClass, Class<?> targetClass) {
+        Table table = this.table;
+        int sourceOrdinal = ORDINALS.get(sourceClass);
+        int targetOrdinal;
+        if (sourceOrdinal >= 0 && (targetOrdinal = ORDINALS.get(targetClass)) >= 0) {
+            int index = sourceOrdinal * DENSE_SIZE + targetOrdinal;
+            Object value = table.dense.get(index);
+            if (value == null) {
+                value = resolve(sourceClass, targetClass);
+                table.dense.lazySet(index, value);
+            }
+            return value == NONE ? null : (V) value;
+        }
+        Object value = table.sparse.get(sourceClass).get(targetClass);
+        return value == NONE ? null : (V) value;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        this.table = new Table();
+    }
+
+    private Object resolve(Class<?> sourceClass, Class<?> targetClass) {
+        V value = resolver.apply(sourceClass, targetClass);
+        return value == null ? NONE : value;
+    }
+
+    private final class Table {
+
+        private final AtomicReferenceArray<Object> dense = new AtomicReferenceArray<>(DENSE_SIZE * DENSE_SIZE);
+
+        /* 源类型 -> 按目标类型取值的行 */
+        private final ClassValue<ClassValue<Object>> sparse = new ClassValue<ClassValue<Object>>() {
+            @Override
+            protected ClassValue<Object> computeValue(Class<?> sourceClass) {
+                return new ClassValue<Object>() {
+                    @Override
+                    protected Object computeValue(Class<?> targetClass) {
+                        return resolve(sourceClass, targetClass);
+                    }
+                };
+            }
+        };
+    }
+}
@@ -103,6 +103,17 @@ public class Types {
         return null;
     }
 
+    /**
+     * 获取基础类型的包装类，非基础类型原样返回
+     *
+     * @param clazz 类型
+     * @return 包装类
+     */
+    public static Class<?> getWrapperType(Class<?> clazz) {
+        Class<?> wrapperType = primitiveTypeToWrapperMap.get(clazz);
+        return wrapperType == null ? clazz : wrapperType;
+    }
+
     /**
      * 获取类
      *
@@ -0,0 +1,1537 @@
+package com.sprint.common.converter.test;
+
+import com.sprint.common.converter.AnyConverter;
+import com.sprint.common.converter.AroundHandler;
+import com.sprint.common.converter.BaseConverter;
+import com.sprint.common.converter.Converter;
+import com.sprint.common.converter.ConverterEngine;
+import com.sprint.common.converter.PrepareReport;
+import com.sprint.common.converter.TypePair;
+import com.sprint.common.converter.TypeReference;
+import com.sprint.common.converter.conversion.nested.NestedConverter;
+import com.sprint.common.converter.conversion.nested.NestedConverters;
+import com.sprint.common.converter.conversion.nested.bean.Access;
+import com.sprint.common.converter.conversion.nested.bean.BeanMapper;
+import com.sprint.common.converter.conversion.nested.bean.Beans;
+import com.sprint.common.converter.conversion.nested.bean.BeansException;
+import com.sprint.common.converter.conversion.nested.bean.Columns;
+import com.sprint.common.converter.conversion.nested.bean.CopyChanges;
+import com.sprint.common.converter.conversion.nested.bean.Projection;
+import com.sprint.common.converter.conversion.nested.bean.Properties;
+import com.sprint.common.converter.conversion.nested.bean.PropertyPath;
+import com.sprint.common.converter.conversion.nested.bean.annotation.IndexedBean;
+import com.sprint.common.converter.conversion.nested.bean.annotation.PropertyInfo;
+import com.sprint.common.converter.conversion.nested.bean.introspection.CachedIntrospectionResults;
+import com.sprint.common.converter.conversion.nested.bean.introspection.PropertyAccess;
+import com.sprint.common.converter.conversion.nested.converters.JsonConverters;
+import com.sprint.common.converter.conversion.nested.json.JsonException;
+import com.sprint.common.converter.conversion.nested.json.Jsons;
+import com.sprint.common.converter.conversion.specific.SpecificConverter;
+import com.sprint.common.converter.conversion.specific.SpecificConverterRegistry;
+import com.sprint.common.converter.conversion.specific.SpecificConverters;
+import com.sprint.common.converter.exception.ConversionException;
+import com.sprint.common.converter.exception.NotSupportConvertException;
+import com.sprint.common.converter.test.bean.*;
+import com.sprint.common.converter.util.Assert;
+import com.sprint.common.converter.util.ClassPairTable;
+import com.sprint.common.converter.util.GenericsResolver;
+import com.sprint.common.converter.util.Types;
+import org.junit.Test;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * @author hongfeng.li
+ * @since 2021/11/25
+ */
+public class TestConverter {
+
+
+    public static class ClazzTypeImpl extends ClazzType<Student, Student2> {
+    }
+
+    public static class ClazzTypeImpl2 extends ClazzTypeImpl {
+    }
+
+    @Test
+    public void testTypes() {
+        System.out.println(Arrays.toString(Types.getClassSuperclassType(ClazzTypeImpl.class)));
+        System.out.println(Arrays.toString(Types.getClassSuperclassType(ClazzTypeImpl2.class)));
+        System.out.println(Arrays.toString(GenericsResolver.of(ClazzType.class).resolve(ClazzTypeImpl.class)));
+        System.out.println(Arrays.toString(GenericsResolver.of(ClazzType.class).resolve(ClazzTypeImpl2.class)));
+        System.out.println(Arrays.toString(Types.getClassSuperclassType(MMap.class)));
+        System.out.println(Arrays.toString(GenericsResolver.of(Map.class).resolve(new TypeReference<MMap<String>>() {
+        })));
+    }
+
+    /**
+     * 测试范型解析
+     */
+    @Test
+    public void testGenericsResolver() {
+        Type type = new TypeReference<MMap<String>>() {
+        }.getType();
+        Type[] types = Types.getMapKVType(null, type);
+        System.out.println(Arrays.toString(types));
+        GenericsResolver resolver = GenericsResolver.of(Map.class);
+        System.out.println(Arrays.toString(resolver.resolve(type)));
+    }
+
+    @Test
+    public void testReferCustomMapConvert() {
+        TestBean<Map<String, String>> bean = new TestBean<>();
+        bean.setObj(Collections.singletonMap("12121", "23123145"));
+        TestBean<MMap<String>> res = AnyConverter.convert(bean, new TypeReference<TestBean<MMap<String>>>() {
+        });
+        System.out.println(res);
+    }
+
+    /**
+     * 测试自定义Map转换
+     */
+    @Test
+    public void testCustomMapConvert() {
+        CustomMap<String, Long> customMap = new CustomMap<>();
+        customMap.setAddress("beijing");
+        customMap.setAge("29");
+        customMap.setName("zhangsan");
+        customMap.put("hahaha", System.currentTimeMillis());
+
+        {//测试自定义map转自定义map
+            CustomMap2<String, Date> map = AnyConverter.convert(customMap, new TypeReference<CustomMap2<String, Date>>() {
+            });
+            Assert.isTrue(Objects.equals(map.size(), customMap.size()), "map 条数发生变化，failed!");
+            Assert.isTrue(Objects.equals(map.get("hahaha").getTime(), customMap.get("hahaha")), "map value long->date，failed!");
+        }
+
+        {//测试自定义map转Map
+            Map<String, Date> map4 = AnyConverter.convert(customMap, new TypeReference<Map<String, Date>>() {
+            });
+
+            Assert.isTrue(Objects.equals(Beans.toMap(map4).size(), 4), "to map 条数错误，failed!");
+        }
+        System.out.println("test1:CustomMapConvert success");
+    }
+
+    @Test
+    public void testBeanConvert() {
+        TypeBean<Object> bean = new TypeBean<>();
+        bean.setName("zhangsan");
+        System.out.println(bean);
+        System.out.println(AnyConverter.convert(bean, TypeBean.class));
+
+        System.out.println("----------------test beans---------------------");
+
+        TypeBean<List<List<String>>> bean1 = new TypeBean<>();
+        bean1.setData(Collections.singletonList(Collections.singletonList("1231314")));
+        bean1.setName("zhangsan");
+        bean1.setList(Collections.singletonList(Collections.singletonList(Collections.singletonList("1000"))));
+        TypeBean.Inner inner1 = new TypeBean.Inner();
+        inner1.setInner("100000");
+        bean1.setListList(Collections.singletonList(Collections.singletonList(inner1)));
+        bean1.setHouse(Collections.singletonList("yanchengyuan"));
+        //bean1.setArray("[\"1231231\"]");
+
+        TypeBean2<List<List<Integer>>> bean2 = AnyConverter.convert(bean1,
+                new TypeReference<TypeBean2<List<List<Integer>>>>() {
+                });
+
+        long tms = System.currentTimeMillis();
+
+        for (int i = 0; i < 100000; i++) {
+            TypeBean2<List<List<Integer>>> item = AnyConverter.convert(bean1,
+                    new TypeReference<TypeBean2<List<List<Integer>>>>() {
+                    });
+        }
+
+        System.out.println("test first bean convert total cost:" + (System.currentTimeMillis() - tms));
+
+        tms = System.currentTimeMillis();
+        TypeBean2<List<List<Integer>>> bean3 = AnyConverter.convert(bean2,
+                new TypeReference<TypeBean2<List<List<Integer>>>>() {
+                });
+        System.out.println("test bean convert total cost:" + (System.currentTimeMillis() - tms));
+        Object obj = Beans.getProperty(bean2, "list[0]");
+        Object list = Beans.getProperty(bean2, "list");
+
+        System.out.println(list + "------" + obj);
+
+        System.out.println(bean1);
+        System.out.println(bean2);
+
+        Beans.setProperty(bean1, "inner.test.test", "2123131");
+
+        System.out.println(bean1);
+
+        System.out.println("test bean convert total cost:" + (System.currentTimeMillis() - tms));
+
+        System.out.println("----------------test json to bean---------------------");
+
+        Map<String, Object> res = AnyConverter.convert("{\"name\":\"zhangsan\"}", Map.class);
+        System.out.println(res);
+    }
+
+    @Test
+    public void testSetBeanProperty() {
+        HashMap<String, Object> obj = new HashMap<>();
+        Beans.setProperty(new TypeReference<HashMap<String, Object>>() {
+        }.getType(), obj, "test.inner.test", "hahahah", true, false);
+        System.out.println(obj);
+        Map<String, Object> map = AnyConverter.convert(obj, new TypeReference<Map<String, Object>>() {
+        });
+        System.out.println(map);
+    }
+
+    @Test
+    public void testBaseConvert() {
+        long tms = System.currentTimeMillis();
+        System.out.println(AnyConverter.convert(1, Boolean.class));
+        System.out.println(AnyConverter.convert(1L, Boolean.class));
+        System.out.println(AnyConverter.convert(1D, Boolean.class));
+        System.out.println(AnyConverter.convert(1F, Boolean.class));
+        System.out.println(AnyConverter.convert("TRUE", Boolean.class));
+        System.out.println(AnyConverter.convert("是", Boolean.class));
+        System.out.println(AnyConverter.convert("Y", Boolean.class));
+        System.out.println(AnyConverter.convert("1", Integer.class));
+        System.out.println(AnyConverter.convert("1", Integer.TYPE));
+        System.out.println(AnyConverter.convert("1.10", Integer.class));
+        System.out.println(AnyConverter.convert("1.10", Integer.TYPE));
+        System.out.println(AnyConverter.convert("1.10", Double.class));
+        System.out.println(AnyConverter.convert("1.10", Double.TYPE));
+        System.out.println(AnyConverter.convert("1.10", Float.class));
+        System.out.println(AnyConverter.convert("1.10", Float.TYPE));
+        System.out.println(AnyConverter.convert("1.10", BigInteger.class));
+        System.out.println(AnyConverter.convert("1.10", BigDecimal.class));
+        System.out.println(AnyConverter.convert("2021-01-01 10:10:10", Date.class));
+        System.out.println(AnyConverter.convert("2021-01-01 10:10:10", java.sql.Date.class));
+        System.out.println(AnyConverter.convert("2021-01-01 10:10:10", Timestamp.class));
+        System.out.println(AnyConverter.convert("2021-01-01 10:10:10", LocalDate.class));
+        System.out.println(AnyConverter.convert("2021-01-01 10:10:10", LocalDateTime.class));
+        System.out.println(
+                AnyConverter.convert(AnyConverter.convert("2021-01-01 10:10:10", LocalDateTime.class), Long.class));
+        System.out.println(AnyConverter.convert(Collections.singletonList("12313.4"), BigDecimal.class));
+        System.out.println(AnyConverter.convert("12313.4", BigDecimal.class));
+        System.out.println(AnyConverter.convert("12313.4", Double.class));
+        System.out.println(AnyConverter.convert("12313.4", Integer.class));
+        System.out.println(AnyConverter.convert("2021-11-12", LocalDate.class));
+        System.out.println(AnyConverter.convert("2021-11-12", Date.class));
+        System.out.println(AnyConverter.convert("2021-11-12", Year.class));
+
+        System.out.println("test base convert total cost:" + (System.currentTimeMillis() - tms));
+    }
+
+    @Test
+    public void testConstructor() throws JsonException {
+        //测试构造函数转换
+        System.out.println(AnyConverter.convert(1, AtomicReference.class));
+        //测试构造函数转换
+        System.out.println(AnyConverter.convert("ceshi", TestBean.class));
+
+        TypeBean<List<TestBean<String>>> bean = new TypeBean<>();
+        bean.setData(Collections.singletonList(new TestBean<>("12131231")));
+
+        System.out.println("bean ->" + Jsons.toJsonString(bean));
+
+        TypeBean<TestBean<Integer[]>> bean1 = AnyConverter.convert(bean,
+                new TypeReference<TypeBean<TestBean<Integer[]>>>() {
+                });
+        System.out.println("bean1 ->" + Jsons.toJsonString(bean1));
+        TypeBean<List<TestBean<String>>> bean2 = AnyConverter.convert(bean,
+                new TypeReference<TypeBean<List<TestBean<String>>>>() {
+                });
+        System.out.println("bean2 ->" + Jsons.toJsonString(bean2));
+    }
+
+    @Test
+    public void testPathConverter() throws ConversionException {
+        Object ob = AnyConverter.convert(Collections.singletonMap("local", AnyConverter.convert("2021-01-01 10:10:10", LocalDateTime.class, Long.class)), String.class);
+        System.out.println(ob);
+
+        Converter<String, Timestamp> converter = AnyConverter.converter(String.class, Long.class, Timestamp.class);
+        Converter<Long, Timestamp> converter2 = AnyConverter.converter(Long.class, String.class, Long.class,
+                Timestamp.class);
+
+        Long ts = System.currentTimeMillis();
+        String tsStr = String.valueOf(ts);
+        Timestamp timestamp = converter.convert(tsStr);
+        Timestamp timestamp2 = converter2.convert(ts);
+        Timestamp timestamp3 = AnyConverter.convert(tsStr, Timestamp.class);
+        Timestamp timestamp4 = AnyConverter.convert(tsStr, Long.class, Timestamp.class);
+        System.out.println(ts);
+        System.out.println(timestamp);
+        System.out.println(timestamp2);
+        System.out.println(timestamp3);
+        System.out.println(timestamp4);
+        System.out.println(timestamp.getTime());
+        System.out.println(timestamp2.getTime());
+        System.out.println(timestamp3.getTime());
+        System.out.println(timestamp4.getTime());
+    }
+
+    @Test
+    public void testConverterFunction() throws ConversionException {
+        Converter<Number, String> nc = String::valueOf;
+        Converter<String, String> nc2 = nc.compose((Converter<CharSequence, Number>) CharSequence::length);
+        Converter<Number, BigDecimal> nc3 = nc.andThen(BigDecimal::new);
+        System.out.println(nc3.convert(10));
+        System.out.println(nc2.convert("我是五个字"));
+        double ss = Stream.of("2", "12.6").map(Objects.requireNonNull(BaseConverter.converter(String.class, Double.TYPE)).asfunc()).reduce(Double::sum).get();
+        System.out.println(ss);
+    }
+
+    @Test
+    public void testString() throws ConversionException {
+        String aa = "zhangsan";
+        long ts = System.currentTimeMillis();
+        System.out.println(Arrays.toString(AnyConverter.convert(aa, byte[].class)));
+        System.out.println(System.currentTimeMillis() - ts);
+        System.out.println(Arrays.toString(AnyConverter.convert(aa, char[].class)));
+        System.out.println(System.currentTimeMillis() - ts);
+        byte[] bytes = BaseConverter.convert(aa, byte[].class);
+        System.out.println(Arrays.toString(bytes));
+        System.out.println(System.currentTimeMillis() - ts);
+        System.out.println(BaseConverter.convert(bytes, String.class));
+        System.out.println(System.currentTimeMillis() - ts);
+        //System.out.println(Arrays.toString(AnyConverter.convert(bytes, char[].class)));
+    }
+
+    @Test
+    public void testSimpleBean2Bean() throws JsonException {
+        Student student = new Student();
+        student.setName("zhangsan");
+        student.setLevel("一年级");
+        Student2 student2 = AnyConverter.convert(student, Student2.class);
+        System.out.println("student1 ->" + Jsons.toJsonString(student));
+        System.out.println("student2 ->" + Jsons.toJsonString(student2));
+    }
+
+    @Test
+    public void testCopyPlan() {
+        Student student = new Student();
+        student.setName("zhangsan");
+        student.setLevel("一年级");
+        Student2 student2 = new Student2();
+        student2.setLevel("二年级");
+        Beans.copyProperties(student, student2, "level");
+        Assert.isTrue("zhangsan".equals(student2.getName()) && "二年级".equals(student2.getLevel()),
+                "ignore properties failed!");
+        student.setName(null);
+        Beans.copyProperties(student, student2);
+        Assert.isTrue("zhangsan".equals(student2.getName()) && "一年级".equals(student2.getLevel()),
+                "merge failed!");
+        Beans.copyProperties(student, student2, false);
+        Assert.isTrue(student2.getName() == null, "copy null failed!");
+    }
+
+    @Test
+    public void testBeanMapper() throws JsonException {
+        Student student = new Student();
+        student.setName("zhangsan");
+        student.setLevel("一年级");
+        BeanMapper<Student, Student2> mapper = BeanMapper.of(Student.class, Student2.class);
+        Assert.isTrue(mapper == BeanMapper.of(Student.class, Student2.class), "mapper cache failed!");
+        Student2 student2 = mapper.map(student);
+        Assert.isTrue("zhangsan".equals(student2.getName()) && "一年级".equals(student2.getLevel()),
+                "bean mapper failed!");
+        Assert.isTrue(mapper.map(null) == null, "bean mapper failed!");
+        Assert.isTrue(mapper.isGenerated(), "mapper class not generated, failed!");
+
+        Item item = new Item();
+        item.setName("apple");
+        item.setQuantity(2);
+        Order order = new Order();
+        order.setCount(3);
+        order.setAmount("12.50");
+        order.setBuyer("zhangsan");
+        order.setPassword("secret");
+        order.setStatus("PAID");
+        order.setFirst(item);
+        order.setItems(Arrays.asList(item, new Item()));
+        BeanMapper<Order, OrderDTO> orderMapper = BeanMapper.of(Order.class, OrderDTO.class);
+        Assert.isTrue(orderMapper.isGenerated(), "mapper class not generated, failed!");
+        OrderDTO dto = new OrderDTO();
+        dto.setId(9L);
+        orderMapper.map(order, dto);
+        Assert.isTrue(Jsons.toJsonString(dto).equals(Jsons.toJsonString(Beans.cast(order, OrderDTO.class)).replace(
+                "\"id\":null", "\"id\":9")), "generated and reflective mapping differ, failed!");
+        Assert.isTrue(dto.getId() == 9L && "zhangsan".equals(dto.getCustomer()) && dto.getPassword() == null
+                && dto.getStatus() == null && dto.getCount() == 3L && new BigDecimal("12.50").equals(dto.getAmount())
+                && "2".equals(dto.getFirst().getQuantity()) && dto.getItems().size() == 2,
+                "generated mapper property rule failed!");
+
+        // 单个属性异常记录日志后继续
+        Primitives primitives = new Primitives();
+        primitives.setCount(3);
+        primitives.setTotal(4L);
+        primitives.setRate(0.5D);
+        primitives.setActive(true);
+        BeanMapper<Primitives, Primitives> primitivesMapper = BeanMapper.of(Primitives.class, Primitives.class);
+        Assert.isTrue(primitivesMapper.isGenerated(), "mapper class not generated, failed!");
+        Primitives primitivesCopy = primitivesMapper.map(primitives);
+        Assert.isTrue(primitivesCopy.getCount() == 3 && primitivesCopy.getTotal() == 4L
+                && primitivesCopy.getRate() == 0.5D && primitivesCopy.isActive(), "generated primitive mapping failed!");
+
+        // 非公共类型无法生成，按拷贝计划拷贝
+        HiddenBean hidden = new HiddenBean();
+        hidden.setName("lisi");
+        BeanMapper<HiddenBean, Student2> hiddenMapper = BeanMapper.of(HiddenBean.class, Student2.class);
+        Assert.isTrue(!hiddenMapper.isGenerated() && "lisi".equals(hiddenMapper.map(hidden).getName()),
+                "copy plan fallback failed!");
+    }
+
+    public static class ImmutableStudent {
+        private final String name;
+        @PropertyInfo(index = 1)
+        private final int level;
+
+        public ImmutableStudent(@PropertyInfo("name") String name, int level) {
+            this.name = name;
+            this.level = level;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+    }
+
+    @Test
+    public void testConstructorInstantiation() {
+        Student student = new Student();
+        student.setName("zhangsan");
+        student.setLevel("3");
+        ImmutableStudent immutable = Beans.cast(student, ImmutableStudent.class);
+        Assert.isTrue("zhangsan".equals(immutable.getName()) && immutable.getLevel() == 3,
+                "constructor instantiation failed!");
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "lisi");
+        immutable = BeanMapper.of(Map.class, ImmutableStudent.class).map(map);
+        Assert.isTrue("lisi".equals(immutable.getName()) && immutable.getLevel() == 0,
+                "constructor instantiation failed!");
+        Assert.isTrue(AnyConverter.prepare(Student.class, ImmutableStudent.class).isReady(), "prepare failed!");
+    }
+
+    @Test
+    public void testInstanceFactory() {
+        Assert.isTrue(Beans.instanceCollection(List.class, 8) instanceof ArrayList, "instance list failed!");
+        Assert.isTrue(Beans.instanceCollection(Queue.class, 8) instanceof LinkedList, "instance queue failed!");
+        Assert.isTrue(Beans.instanceCollection(TreeSet.class, 8) instanceof TreeSet, "instance set failed!");
+        Assert.isTrue(Beans.instanceMap(Map.class, 8) instanceof LinkedHashMap, "instance map failed!");
+        Assert.isTrue(Beans.instanceMap(HashMap.class, 8).getClass() == HashMap.class, "instance map failed!");
+        Assert.isTrue(Beans.instanceMap(ConcurrentMap.class) instanceof LinkedHashMap, "instance map failed!");
+        Assert.isTrue(Beans.instance(Student.class) != null, "instance bean failed!");
+        Assert.isTrue(Beans.instance(HiddenInstance.class) != Beans.instance(HiddenInstance.class),
+                "instance non-public bean failed!");
+        try {
+            Beans.instance(FailingInstance.class);
+            Assert.isTrue(false, "constructor exception swallowed, failed!");
+        } catch (BeansException e) {
+            Assert.isTrue(e.getCause() instanceof IOException, "constructor exception not wrapped, failed!");
+        }
+    }
+
+    static class HiddenInstance {
+        private HiddenInstance() {
+        }
+    }
+
+    public static class FailingInstance {
+        public FailingInstance() throws IOException {
+            throw new IOException("closed");
+        }
+    }
+
+    @Test
+    public void testUnfoldAndFold() {
+        TypeBean<String> bean = new TypeBean<>();
+        bean.setName("zhangsan");
+        TypeBean.Inner inner = new TypeBean.Inner();
+        Inner2 inner2 = new Inner2();
+        inner2.setTest("t1");
+        inner.setTest(inner2);
+        bean.setInner(inner);
+        Map<String, Object> map = Beans.unfold(bean, "inner.inner");
+        System.out.println(map);
+        Assert.isTrue("t1".equals(map.get("innerTestTest")) && !map.containsKey("innerInner"), "unfold failed!");
+        TypeBean<?> folded = Beans.fold(map, TypeBean.class);
+        Assert.isTrue("zhangsan".equals(folded.getName()) && "t1".equals(folded.getInner().getTest().getTest()),
+                "fold failed!");
+    }
+
+    @Test
+    public void testProjection() {
+        Student student = new Student();
+        student.setName("zhangsan");
+        student.setLevel("一年级");
+        List<Student> students = Arrays.asList(student, new Student());
+        Projection projection = Projection.of(new String[]{"name", "level"}, new String[]{"n"});
+        List<Object[]> rows = projection.toRows(students);
+        Assert.isTrue(Arrays.equals(projection.getHeader(), new String[]{"n", "level"}), "projection header failed!");
+        Assert.isTrue(rows.size() == 2 && "zhangsan".equals(rows.get(0)[0]) && rows.get(1)[1] == null,
+                "projection rows failed!");
+        List<Map<String, Object>> maps = Beans.toMap(students, new String[]{"name", "level"}, new String[]{"n"});
+        Assert.isTrue("一年级".equals(maps.get(0).get("level")) && maps.get(1).isEmpty(), "projection maps failed!");
+    }
+
+    @IndexedBean
+    public static class Score {
+        private int age;
+        private Long id;
+        private double score;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+    }
+
+    @Test
+    public void testColumns() {
+        Score score = new Score();
+        score.setAge(18);
+        score.setId(1L);
+        score.setScore(90.5);
+        Columns columns = Columns.extract(Arrays.asList(score, new Score()), "age", "id", "score");
+        Assert.isTrue(Arrays.equals(columns.getInts("age"), new int[]{18, 0}), "int column failed!");
+        Assert.isTrue(columns.getLongs("id")[0] == 1L && columns.isNull("id", 1), "long column failed!");
+        Assert.isTrue(columns.getDoubles("score")[0] == 90.5, "double column failed!");
+        List<Score> scores = columns.toBeans(Score.class);
+        Assert.isTrue(scores.get(0).getAge() == 18 && scores.get(0).getId() == 1L && scores.get(1).getId() == null,
+                "columns to beans failed!");
+
+        SmallPrimitives small = new SmallPrimitives();
+        small.setLevel((short) 7);
+        small.setFlag((byte) -2);
+        small.setRatio(1.5F);
+        Columns smallColumns = Columns.extract(Collections.singletonList(small), "level", "flag", "ratio");
+        Assert.isTrue(smallColumns.getInts("level")[0] == 7 && smallColumns.getInts("flag")[0] == -2
+                && smallColumns.getDoubles("ratio")[0] == 1.5D, "small primitive column failed!");
+        SmallPrimitives smallCopy = smallColumns.toBeans(SmallPrimitives.class).get(0);
+        Assert.isTrue(smallCopy.getLevel() == 7 && smallCopy.getFlag() == -2 && smallCopy.getRatio() == 1.5F,
+                "small primitive columns to beans failed!");
+
+        TextAge textAge = new TextAge();
+        textAge.setAge("eighteen");
+        try {
+            Columns.extract(Arrays.asList(score, textAge), "age");
+            Assert.isTrue(false, "mixed column kind accepted, failed!");
+        } catch (BeansException e) {
+            Assert.isTrue(e.getMessage().contains("age"), "mixed column kind failed!");
+        }
+        Assert.isTrue("eighteen".equals(Columns.extract(Arrays.asList(textAge, score), "age").getObjects("age")[0]),
+                "object column failed!");
+    }
+
+    public static class TextAge {
+        private String age;
+
+        public String getAge() {
+            return age;
+        }
+
+        public void setAge(String age) {
+            this.age = age;
+        }
+    }
+
+    @Test
+    public void testCopyChanged() {
+        Score source = new Score();
+        source.setAge(18);
+        source.setId(1L);
+        Score target = new Score();
+        target.setId(1L);
+        CopyChanges changes = Beans.copyChangedProperties(source, target);
+        System.out.println(changes);
+        Assert.isTrue(changes.isChanged("age") && !changes.isChanged("id") && target.getAge() == 18,
+                "copy changed failed!");
+        Assert.isTrue(!Beans.copyChangedProperties(source, target).isChanged(), "copy unchanged failed!");
+    }
+
+    @Test
+    public void testIntrospectionCache() {
+        CachedIntrospectionResults.retain(Score.class);
+        CachedIntrospectionResults score = CachedIntrospectionResults.forClass(Score.class);
+        CachedIntrospectionResults.clear(Score.class);
+        Assert.isTrue(score == CachedIntrospectionResults.forClass(Score.class), "retain failed!");
+        CachedIntrospectionResults student = CachedIntrospectionResults.forClass(Student.class);
+        CachedIntrospectionResults.clear(Student.class);
+        Assert.isTrue(student != CachedIntrospectionResults.forClass(Student.class), "clear failed!");
+        CachedIntrospectionResults.release(Score.class);
+    }
+
+    @Test
+    public void testIntrospectorCompatible() throws IntrospectionException {
+        assertIntrospectorCompatible(OverloadedSetter.class);
+        assertIntrospectorCompatible(CovariantGetter.class);
+        assertIntrospectorCompatible(IsAndGet.class);
+        assertIntrospectorCompatible(BoxedBoolean.class);
+        assertIntrospectorCompatible(GenericSub.class);
+
+        PropertyAccess[] fieldOnly = CachedIntrospectionResults.forClass(FieldOnly.class).getPropertyAccesses();
+        String[] names = Arrays.stream(fieldOnly).map(PropertyAccess::getName).toArray(String[]::new);
+        Assert.isTrue(Arrays.equals(names, new String[]{"zeta", "alpha", "middle", "omega", "beta"}),
+                "field only order failed! " + Arrays.toString(names));
+        Assert.isTrue(Arrays.stream(fieldOnly).allMatch(p -> p.getReadMethod() == null && p.getWriteMethod() == null),
+                "field only failed!");
+    }
+
+    /* 有读写方法的属性集合及读写方法与 java.beans.Introspector 一致 */
+    private static void assertIntrospectorCompatible(Class<?> beanClass) throws IntrospectionException {
+        Map<String, PropertyAccess> accesses = new HashMap<>();
+        for (PropertyAccess propertyAccess : CachedIntrospectionResults.forClass(beanClass).getPropertyAccesses()) {
+            if (propertyAccess.getReadMethod() != null || propertyAccess.getWriteMethod() != null) {
+                accesses.put(propertyAccess.getName(), propertyAccess);
+            }
+        }
+        PropertyDescriptor[] descriptors = Introspector.getBeanInfo(beanClass, Object.class).getPropertyDescriptors();
+        Assert.isTrue(descriptors.length == accesses.size(), beanClass.getSimpleName() + " properties "
+                + accesses.keySet() + " not match introspector, failed!");
+        for (PropertyDescriptor descriptor : descriptors) {
+            PropertyAccess propertyAccess = accesses.get(descriptor.getName());
+            Assert.notNull(propertyAccess, beanClass.getSimpleName() + "." + descriptor.getName() + " missing, failed!");
+            Assert.isTrue(Objects.equals(descriptor.getReadMethod(), propertyAccess.getReadMethod()),
+                    beanClass.getSimpleName() + "." + descriptor.getName() + " read method failed!");
+            Assert.isTrue(Objects.equals(descriptor.getWriteMethod(), propertyAccess.getWriteMethod()),
+                    beanClass.getSimpleName() + "." + descriptor.getName() + " write method failed!");
+        }
+    }
+
+    public static class OverloadedSetter {
+        private String value;
+        private Number amount;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(Object value) {
+            this.value = String.valueOf(value);
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public void setAmount(Number amount) {
+            this.amount = amount;
+        }
+
+        public void setAmount(Integer amount) {
+            this.amount = amount;
+        }
+
+        public Number getAmount() {
+            return amount;
+        }
+    }
+
+    public static class CovariantBase {
+        private Number value;
+        private Object name;
+
+        public Number getValue() {
+            return value;
+        }
+
+        public void setValue(Number value) {
+            this.value = value;
+        }
+
+        public Object getName() {
+            return name;
+        }
+
+        public void setName(Object name) {
+            this.name = name;
+        }
+    }
+
+    public static class CovariantGetter extends CovariantBase {
+
+        @Override
+        public Integer getValue() {
+            return (Integer) super.getValue();
+        }
+
+        @Override
+        public String getName() {
+            return (String) super.getName();
+        }
+
+        public void setName(String name) {
+            super.setName(name);
+        }
+    }
+
+    public static class IsAndGet {
+        private boolean active;
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public boolean getActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+    }
+
+    public static class BoxedBoolean {
+        private Boolean enabled;
+
+        public Boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(Boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class GenericBase<T> {
+        private T value;
+
+        public T getValue() {
+            return value;
+        }
+
+        public void setValue(T value) {
+            this.value = value;
+        }
+    }
+
+    public static class GenericSub extends GenericBase<String> {
+    }
+
+    public static class FieldOnlyBase {
+        private String omega;
+        private String beta;
+    }
+
+    public static class FieldOnly extends FieldOnlyBase {
+        private String zeta;
+        private int alpha;
+        private long middle;
+        private static String ignored;
+        private final String constant = "c";
+    }
+
+    @Test
+    public void testPropertyInfoCache() {
+        CachedIntrospectionResults results = CachedIntrospectionResults.forClass(ImmutableStudent.class);
+        PropertyAccess level = results.getPropertyAccess("level");
+        Assert.isTrue(results.getPropertyInfo(level) == results.getPropertyInfo(level), "property info cache failed!");
+        Assert.isTrue(results.getPropertyInfo(level).getIndex() == 1, "property info failed!");
+        try {
+            Properties.getPropertyInfo(level).setName("grade");
+            Assert.isTrue(false, "shared property info modified, failed!");
+        } catch (UnsupportedOperationException e) {
+            Assert.isTrue("level".equals(results.getPropertyInfo(level).getName()), "property info failed!");
+        }
+        Assert.isTrue(results.getReadPropertyAccessMap().get("level") == level, "read view failed!");
+        Assert.isTrue(results.getWritePropertyAccessMap().isEmpty(), "write view failed!");
+    }
+
+    @Test
+    public void testConflictingAlias() {
+        ConflictingAlias bean = new ConflictingAlias();
+        bean.setA("a");
+        bean.setB("b");
+        Assert.isTrue("a".equals(Beans.getProperty(bean, "a")), "property access with alias conflict failed!");
+        Assert.isTrue("b".equals(Beans.getProperty(bean, "b")), "property access with alias conflict failed!");
+        try {
+            CachedIntrospectionResults.forClass(ConflictingAlias.class).getReadPropertyAccessMap();
+            Assert.isTrue(false, "alias conflict accepted, failed!");
+        } catch (IllegalStateException e) {
+            Assert.isTrue(e.getMessage().contains("b"), "alias conflict failed!");
+        }
+        Assert.isTrue("a".equals(Beans.getProperty(bean, "a")), "property access after view failure failed!");
+    }
+
+    public static class ConflictingAlias {
+        @PropertyInfo("b")
+        private String a;
+        private String b;
+
+        public String getA() {
+            return a;
+        }
+
+        public void setA(String a) {
+            this.a = a;
+        }
+
+        public String getB() {
+            return b;
+        }
+
+        public void setB(String b) {
+            this.b = b;
+        }
+    }
+
+    @Test
+    public void testLenientPropertyNames() {
+        CachedIntrospectionResults results = CachedIntrospectionResults.forClass(Score.class);
+        Assert.isTrue(results.getPropertyAccess("Age") == results.getPropertyAccess("age"), "name variant failed!");
+        Assert.isTrue(results.getPropertyAccess("AGE") == null, "name variant failed!");
+        Assert.isTrue(results.getPropertyAccess("A_g-E", true) == results.getPropertyAccess("age"),
+                "lenient name failed!");
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("AGE", "18");
+        map.put("i_d", 1);
+        Assert.isTrue(Beans.cast(map, Score.class).getAge() == 0, "strict name failed!");
+        ConverterEngine.Options options = new ConverterEngine.Options();
+        options.setLenientPropertyNames(true);
+        Score score = new ConverterEngine(options).execute(() -> Beans.cast(map, Score.class));
+        Assert.isTrue(score.getAge() == 18 && score.getId() == 1L, "lenient name failed!");
+    }
+
+    @Test
+    public void testBeanIndex() throws IOException {
+        URL index = getClass().getClassLoader().getResource("META-INF/sprint-converter/bean.index");
+        Assert.notNull(index, "bean index not generated, failed!");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(),
+                StandardCharsets.UTF_8))) {
+            Assert.isTrue(reader.lines().anyMatch(line -> line.startsWith(Score.class.getName() + "\tage\t")),
+                    "bean index failed!");
+        }
+        CachedIntrospectionResults indexed = CachedIntrospectionResults.forClass(Score.class);
+        Assert.isTrue(indexed.isIndexed(), "bean index not used, failed!");
+        PropertyAccess age = indexed.getPropertyAccess("age");
+        Assert.isTrue(age.isReadAccessible() && age.isWriteAccessible() && age.extractClass() == int.class,
+                "indexed property failed!");
+
+        // 未标注的子类走反射扫描，读写方法及字段均继承自 Score，应与索引结果一致
+        CachedIntrospectionResults scanned = CachedIntrospectionResults.forClass(UnindexedScore.class);
+        Assert.isTrue(!scanned.isIndexed(), "unindexed bean failed!");
+        PropertyAccess[] indexedAccesses = indexed.getPropertyAccesses();
+        PropertyAccess[] scannedAccesses = scanned.getPropertyAccesses();
+        Assert.isTrue(indexedAccesses.length == scannedAccesses.length, "bean index not match scan, failed!");
+        for (int i = 0; i < indexedAccesses.length; i++) {
+            PropertyAccess left = indexedAccesses[i];
+            PropertyAccess right = scannedAccesses[i];
+            Assert.isTrue(left.getName().equals(right.getName()) && left.getType().equals(right.getType())
+                            && Objects.equals(left.getReadMethod(), right.getReadMethod())
+                            && Objects.equals(left.getWriteMethod(), right.getWriteMethod())
+                            && Objects.equals(left.getField(), right.getField()),
+                    "bean index of " + left.getName() + " not match scan, failed!");
+        }
+    }
+
+    public static class UnindexedScore extends Score {
+    }
+
+    @Test
+    public void testPropertyPath() {
+        Map<String, Object> obj = new HashMap<>();
+        Beans.setProperty(obj, "student.name", "zhangsan");
+        PropertyPath path = PropertyPath.compile("student.name");
+        Assert.isTrue(path == PropertyPath.compile("student.name"), "path cache failed!");
+        Assert.isTrue(PropertyPath.compile("name") == PropertyPath.compile("name"), "simple name cache failed!");
+        Assert.isTrue("zhangsan".equals(path.getValue(obj)), "get property failed!");
+        TestBean<List<String>> bean = new TestBean<>();
+        bean.setObj(Arrays.asList("a", "b"));
+        Assert.isTrue("b".equals(Beans.getProperty(bean, "obj[1]")), "get index property failed!");
+        Assert.isTrue(Beans.getProperty(bean, "obj[2]") == null, "get index property failed!");
+
+        Assert.isTrue(Beans.getPropertyType(Student.class, "name") == String.class, "property type failed!");
+        Assert.isTrue(Beans.getPropertyType(ScoreHolder.class, "score.age") == int.class,
+                "nested property type failed!");
+        try {
+            Beans.getPropertyType(Student.class, "missing");
+            Assert.isTrue(false, "missing property type accepted, failed!");
+        } catch (BeansException e) {
+            Assert.isTrue(e.getMessage().contains("missing"), "missing property type failed!");
+        }
+    }
+
+    @Test
+    public void testPlanCache() {
+        List<Integer> source = Arrays.asList(1, 2, 3);
+        AnyConverter.convert(source, new TypeReference<List<String>>() {
+        });
+        long hits = NestedConverters.getPlanCacheHits();
+        List<String> target = AnyConverter.convert(source, new TypeReference<List<String>>() {
+        });
+        Assert.isTrue(Objects.equals(target, Arrays.asList("1", "2", "3")), "list convert failed!");
+        Assert.isTrue(NestedConverters.getPlanCacheHits() - hits >= source.size() + 1, "plan cache not hit, failed!");
+        System.out.println("plan cache hits:" + NestedConverters.getPlanCacheHits() + ", misses:"
+                + NestedConverters.getPlanCacheMisses());
+    }
+
+    public static class Token {
+        private final String value;
+
+        public Token(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Token2StringConverter implements SpecificConverter<Token, String> {
+        @Override
+        public String convert(Token source) {
+            return "token:" + source.value;
+        }
+    }
+
+    @Test
+    public void testRegisterAtRuntime() {
+        Assert.isTrue(SpecificConverters.getConverter(Token.class, String.class) == null, "converter exists, failed!");
+        long epoch = SpecificConverters.getEpoch();
+        SpecificConverters.registerSpecificConverter(new Token2StringConverter());
+        Assert.isTrue(SpecificConverters.getEpoch() == epoch + 1, "epoch not changed, failed!");
+        String value = BaseConverter.convertIgnore(new Token("a"), String.class);
+        Assert.isTrue(Objects.equals(value, "token:a"), "registered converter not used, failed!");
+        System.out.println(value);
+    }
+
+    @Test
+    public void testEngine() {
+        ConverterEngine.Options options = new ConverterEngine.Options();
+        options.setFailFast(true);
+        ConverterEngine engine = new ConverterEngine(options);
+        List<String> target = engine.convert(Arrays.asList(1, 2, 3), new TypeReference<List<String>>() {
+        });
+        Assert.isTrue(Objects.equals(target, Arrays.asList("1", "2", "3")), "engine convert failed!");
+        Assert.isTrue(engine.getPlanCacheMisses() > 0, "engine plan cache not used, failed!");
+
+        long defaultEpoch = SpecificConverters.getEpoch();
+        engine.getSpecificConverters().registerSpecificConverter(new Token2StringConverter());
+        Assert.isTrue(SpecificConverters.getEpoch() == defaultEpoch, "default engine changed, failed!");
+        String value = engine.execute(() -> BaseConverter.convertIgnore(new Token("b"), String.class));
+        Assert.isTrue(Objects.equals(value, "token:b"), "engine converter not used, failed!");
+        System.out.println(value + ", hits:" + engine.getPlanCacheHits() + ", misses:" + engine.getPlanCacheMisses());
+
+        Type[] typePath = {Timestamp.class};
+        Assert.isTrue(engine.convert("1000", Long.class, typePath) instanceof Timestamp, "path convert failed!");
+        typePath[0] = String.class;
+        Assert.isTrue("1000".equals(engine.convert("1000", Long.class, typePath)), "path convert failed!");
+        Assert.isTrue(engine.convert("1000", Long.class, Timestamp.class) instanceof Timestamp,
+                "path key changed, failed!");
+
+        ConverterEngine.getDefault();
+        try {
+            ConverterEngine.configureDefault(options);
+            Assert.isTrue(false, "default engine reconfigured, failed!");
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWarmProfile() throws Exception {
+        Path profile = Files.createTempDirectory("converter").resolve("warm.profile");
+        ConverterEngine.Options options = new ConverterEngine.Options();
+        options.setWarmProfile(profile);
+        ConverterEngine engine = new ConverterEngine(options);
+        engine.getWarmUp().get();
+        engine.convert(Arrays.asList(1, 2), new TypeReference<List<String>>() {
+        });
+        engine.convert(new Score(), Student.class);
+        engine.saveWarmProfile(profile);
+        System.out.println(new String(Files.readAllBytes(profile), StandardCharsets.UTF_8));
+
+        ConverterEngine restarted = new ConverterEngine(options);
+        PrepareReport report = restarted.getWarmUp().get();
+        System.out.println(report);
+        Assert.isTrue(report.getPreparedCount() > 0 && restarted.getPlanCacheSize() > 0, "warm up failed!");
+        Assert.isTrue(restarted.getRecordedPairs().contains(TypePair.of(Score.class, Student.class)),
+                "warm up failed!");
+
+        // 退出时写回不持有引擎，丢弃的引擎可被回收
+        ConverterEngine discarded = new ConverterEngine(options);
+        discarded.getWarmUp().get();
+        WeakReference<ConverterEngine> reference = new WeakReference<>(discarded);
+        discarded = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.isTrue(reference.get() == null, "engine with warm profile leaked, failed!");
+    }
+
+    @Test
+    public void testPrepare() {
+        ConverterEngine engine = new ConverterEngine();
+        PrepareReport report = engine.prepare(new TypeReference<TypeBean<List<String>>>() {
+        }.getType(), new TypeReference<TypeBean2<List<List<Integer>>>>() {
+        }.getType());
+        System.out.println(report);
+        Assert.isTrue(report.isReady(), "prepare failed!");
+        Assert.isTrue(report.getPreparedCount() > 1, "object graph not walked, failed!");
+
+        long misses = engine.getPlanCacheMisses();
+        TypeBean<List<String>> bean = new TypeBean<>();
+        bean.setName("zhangsan");
+        bean.setList(new ArrayList<>(Collections.singletonList(new ArrayList<>(Arrays.asList("1", "2")))));
+        engine.convert(bean, new TypeReference<TypeBean2<List<List<Integer>>>>() {
+        });
+        Assert.isTrue(engine.getPlanCacheMisses() == misses, "plan cache missed after prepare, failed!");
+
+        PrepareReport unsupported = AnyConverter.prepare(Token.class, Integer.class);
+        System.out.println(unsupported);
+        Assert.isTrue(!unsupported.isReady(), "unsupported not reported, failed!");
+
+        Type unloadable = new ParameterizedType() {
+            @Override
+            public Type[] getActualTypeArguments() {
+                return new Type[0];
+            }
+
+            @Override
+            public Type getRawType() {
+                throw new TypeNotPresentException("com.sprint.Missing", null);
+            }
+
+            @Override
+            public Type getOwnerType() {
+                return null;
+            }
+        };
+        PrepareReport batch = engine.prepare(Arrays.asList(TypePair.of(String.class, unloadable),
+                TypePair.of(Score.class, Student.class)));
+        System.out.println(batch);
+        Assert.isTrue(batch.getUnsupported().size() == 1 && batch.getPreparedCount() > 0,
+                "batch aborted, failed!");
+        // Bean之间预热生成映射器
+        BeanMapper<Score, Student> mapper = BeanMapper.of(Score.class, Student.class);
+        Assert.isTrue(mapper.isGenerated(), "bean mapper not prepared, failed!");
+    }
+
+    public static class Number2StringConverter implements SpecificConverter<Number, String> {
+        @Override
+        public String convert(Number source) {
+            return "number:" + source;
+        }
+    }
+
+    @Test
+    public void testClassPairTable() throws Exception {
+        Map<String, Integer> resolved = new HashMap<>();
+        ClassPairTable<String> table = new ClassPairTable<>((s, t) -> {
+            resolved.merge(s.getSimpleName() + "->" + t.getSimpleName(), 1, Integer::sum);
+            return s == Token.class ? null : s.getSimpleName() + "->" + t.getSimpleName();
+        });
+        Assert.isTrue(ClassPairTable.ordinal(Integer.class) >= 0 && ClassPairTable.ordinal(Token.class) < 0,
+                "ordinal failed!");
+        for (int i = 0; i < 3; i++) {
+            Assert.isTrue("Integer->String".equals(table.get(Integer.class, String.class)), "dense pair failed!");
+            Assert.isTrue("Score->String".equals(table.get(Score.class, String.class)), "sparse pair failed!");
+            Assert.isTrue(table.get(Token.class, String.class) == null, "unsupported pair failed!");
+        }
+        Assert.isTrue(resolved.size() == 3 && resolved.values().stream().allMatch(count -> count == 1),
+                "pair not cached, failed!");
+        table.clear();
+        table.get(Integer.class, String.class);
+        Assert.isTrue(resolved.get("Integer->String") == 2, "clear failed!");
+
+        SpecificConverterRegistry registry = new SpecificConverterRegistry();
+        registry.registerSpecificConverter(new Number2StringConverter());
+        Converter<Integer, String> dense = registry.getConverter(Integer.class, String.class);
+        Converter<AtomicLong, String> sparse = registry.getConverter(AtomicLong.class, String.class);
+        Assert.isTrue(dense != null && "number:1".equals(dense.convert(1)), "dense subtype fallback failed!");
+        Assert.isTrue(sparse != null && "number:2".equals(sparse.convert(new AtomicLong(2))),
+                "sparse subtype fallback failed!");
+        Assert.isTrue(registry.getConverter(Token.class, String.class) == null, "unsupported pair failed!");
+        registry.registerSpecificConverter(new Token2StringConverter());
+        Assert.isTrue(registry.getConverter(Token.class, String.class) != null, "negative cache not reset, failed!");
+
+        // 源类型为 JDK 类型时，缓存不阻止目标类型的类加载器卸载
+        ClassPairTable<Object> classes = new ClassPairTable<>((s, t) -> t);
+        WeakReference<ClassLoader> loader = loadIsolated(classes, Token.class);
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.isTrue(loader.get() == null, "class pair table leaked target class loader, failed!");
+        Assert.isTrue(classes.get(String.class, Token.class) == Token.class, "class pair table failed!");
+    }
+
+    /* 在独立类加载器中重新定义类型，并以其为目标类型写入缓存 */
+    private static WeakReference<ClassLoader> loadIsolated(ClassPairTable<Object> table, Class<?> type)
+            throws Exception {
+        byte[] bytes;
+        try (InputStream in = type.getResourceAsStream(type.getName().substring(
+                type.getPackage().getName().length() + 1) + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n = in.read(buffer); n > 0; n = in.read(buffer)) {
+                out.write(buffer, 0, n);
+            }
+            bytes = out.toByteArray();
+        }
+        ClassLoader loader = new ClassLoader(TestConverter.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (type.getName().equals(name)) {
+                    synchronized (getClassLoadingLock(name)) {
+                        Class<?> loaded = findLoadedClass(name);
+                        return loaded != null ? loaded : defineClass(name, bytes, 0, bytes.length);
+                    }
+                }
+                return super.loadClass(name, resolve);
+            }
+        };
+        Class<?> isolated = loader.loadClass(type.getName());
+        Assert.isTrue(isolated != type && table.get(String.class, isolated) == isolated, "isolated class failed!");
+        return new WeakReference<>(loader);
+    }
+
+    @Test
+    public void testNoMatch() throws ConversionException {
+        NestedConverter converter = new JsonConverters.JsonStr2Map();
+        Assert.isTrue(converter.tryConvert("name", Map.class, Map.class) == NestedConverter.NO_MATCH,
+                "not json, failed!");
+        Assert.isTrue(converter.tryConvert("{name:}", Map.class, Map.class) == NestedConverter.NO_MATCH,
+                "invalid json, failed!");
+        Assert.isTrue(converter.convert(null, Map.class, Map.class) == null, "null value failed!");
+        Map<?, ?> map = (Map<?, ?>) converter.convert("{\"name\":\"zhangsan\"}", Map.class, Map.class);
+        Assert.isTrue("zhangsan".equals(map.get("name")), "json convert failed!");
+        try {
+            converter.convert("{name:}", Map.class, Map.class);
+            Assert.isTrue(false, "no match not thrown, failed!");
+        } catch (NotSupportConvertException e) {
+            System.out.println(e.getMessage());
+        }
+        List<?> list = (List<?>) new JsonConverters.JsonStr2Collection().convert("[1,2]", List.class, List.class);
+        Assert.isTrue(list.size() == 2, "json array convert failed!");
+    }
+
+    public static class Integer2CharSequenceConverter implements SpecificConverter<Integer, CharSequence> {
+        @Override
+        public CharSequence convert(Integer source) {
+            return "chars:" + source;
+        }
+    }
+
+    public static class Integer2StringConverter implements SpecificConverter<Integer, String> {
+        @Override
+        public String convert(Integer source) {
+            return "string:" + source;
+        }
+    }
+
+    public static class Integer2StringBuilderConverter implements SpecificConverter<Integer, StringBuilder> {
+        @Override
+        public StringBuilder convert(Integer source) {
+            return new StringBuilder("builder:").append(source);
+        }
+    }
+
+    @Test
+    public void testSpecificConverterOrder() throws ConversionException {
+        List<SpecificConverter<?, ?>> converters = Arrays.asList(new Number2StringConverter(),
+                new Integer2CharSequenceConverter(), new Integer2StringConverter(), new Integer2StringBuilderConverter());
+        for (int i = 0; i < 2; i++) {
+            SpecificConverterRegistry registry = new SpecificConverterRegistry();
+            converters.forEach(registry::registerSpecificConverter);
+
+            List<SpecificConverter<?, ?>> candidates = registry.getCandidates(Integer.class, Object.class);
+            Assert.isTrue(candidates.size() == 2 && candidates.get(0) instanceof Integer2StringBuilderConverter
+                    && candidates.get(1) instanceof Integer2StringConverter, "target specificity failed!");
+            Assert.isTrue(registry.getConverter(Integer.class, Object.class).convert(1) instanceof StringBuilder,
+                    "tie break failed!");
+            Assert.isTrue(registry.getCandidates(Integer.class, CharSequence.class).get(0)
+                    instanceof Integer2CharSequenceConverter, "exact target failed!");
+            Assert.isTrue(registry.getCandidates(Integer.class, Serializable.class).size() == 2,
+                    "source specificity failed!");
+            candidates = registry.getCandidates(Long.class, Serializable.class);
+            Assert.isTrue(candidates.size() == 1 && candidates.get(0) instanceof Number2StringConverter,
+                    "source hierarchy failed!");
+            converters = new ArrayList<>(converters);
+            Collections.reverse(converters);
+        }
+    }
+
+    @Test
+    public void testConverterPipeline() throws ConversionException {
+        Converter<String, String> stage = s -> s + "1";
+        Converter<String, String> pipeline = stage.compose((String s) -> s + "0").andThen(s -> s + "2");
+        for (int i = 3; i < 100; i++) {
+            String value = String.valueOf(i % 10);
+            pipeline = pipeline.andThen(s -> s + value);
+        }
+        int[] depth = new int[2];
+        Converter<String, String> last = pipeline.andThen(s -> {
+            depth[1] = new Throwable().getStackTrace().length;
+            return s;
+        });
+        Assert.isTrue(last.convert("").startsWith("0123456789012"), "pipeline order failed!");
+        stage.andThen(s -> {
+            depth[0] = new Throwable().getStackTrace().length;
+            return s;
+        }).convert("");
+        Assert.isTrue(depth[1] == depth[0], "pipeline not flattened, failed!");
+        Converter<String, String> enforced = pipeline.enforce();
+        Assert.isTrue(enforced == pipeline && enforced.<String, String>enforce() == pipeline,
+                "enforce not idempotent, failed!");
+        Converter<String, String> identity = Converter.identity();
+        Assert.isTrue(identity == Converter.<String, String>enforcer(), "identity failed!");
+        Assert.isTrue("01".equals(identity.andThen(stage).andThen(Converter.identity()).convert("0")),
+                "identity stage failed!");
+
+        List<String> events = new ArrayList<>();
+        Converter<String, String> around = ((Converter<String, String>) s -> {
+            events.add("convert:" + s);
+            return s.isEmpty() ? null : s;
+        }).onNullGet(() -> "default").around(new AroundHandler<String, String>() {
+            @Override
+            public String before(String source) {
+                events.add("before:" + source);
+                return source == null ? null : source.trim();
+            }
+
+            @Override
+            public String after(String source, String target) {
+                events.add("after:" + target);
+                return target;
+            }
+        });
+        Assert.isTrue("a".equals(around.convert(" a ")) && "default".equals(around.convert(" ")),
+                "around failed!");
+        Assert.isTrue("default".equals(around.convert(null)), "null get failed!");
+        Assert.isTrue(Objects.equals(events, Arrays.asList("before: a ", "convert:a", "after:a", "before: ",
+                "convert:", "after:default", "before:null", "after:default")), "around order failed!");
+    }
+
+    public static class Primitives {
+        private int count;
+        private long total;
+        private double rate;
+        private boolean active;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+
+        public double getRate() {
+            return rate;
+        }
+
+        public void setRate(double rate) {
+            this.rate = rate;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException("broken getter");
+        }
+
+        public void setBroken(String broken) {
+            throw new IllegalStateException("broken setter");
+        }
+    }
+
+    public static class SmallPrimitives {
+        private short level;
+        private byte flag;
+        private char grade;
+        private float ratio;
+
+        public short getLevel() {
+            return level;
+        }
+
+        public void setLevel(short level) {
+            this.level = level;
+        }
+
+        public byte getFlag() {
+            return flag;
+        }
+
+        public void setFlag(byte flag) {
+            this.flag = flag;
+        }
+
+        public char getGrade() {
+            return grade;
+        }
+
+        public void setGrade(char grade) {
+            this.grade = grade;
+        }
+
+        public float getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(float ratio) {
+            this.ratio = ratio;
+        }
+    }
+
+    static class HiddenBean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getFatal() {
+            throw new StackOverflowError("fatal getter");
+        }
+    }
+
+    @Test
+    public void testPropertyAccessors() {
+        CachedIntrospectionResults results = CachedIntrospectionResults.forClass(Primitives.class);
+        Primitives primitives = new Primitives();
+        results.getPropertyAccess("count").setInt(primitives, 3);
+        results.getPropertyAccess("total").setLong(primitives, 4L);
+        results.getPropertyAccess("rate").setDouble(primitives, 0.5D);
+        results.getPropertyAccess("active").setValue(primitives, true);
+        Assert.isTrue(results.getPropertyAccess("count").getInt(primitives) == 3
+                && results.getPropertyAccess("total").getLong(primitives) == 4L
+                && results.getPropertyAccess("rate").getDouble(primitives) == 0.5D
+                && results.getPropertyAccess("active").getBoolean(primitives), "primitive accessor failed!");
+        SmallPrimitives small = new SmallPrimitives();
+        small.setLevel((short) 7);
+        small.setFlag((byte) -2);
+        small.setGrade('A');
+        small.setRatio(1.5F);
+        CachedIntrospectionResults smallResults = CachedIntrospectionResults.forClass(SmallPrimitives.class);
+        Assert.isTrue(smallResults.getPropertyAccess("level").getInt(small) == 7
+                && smallResults.getPropertyAccess("flag").getInt(small) == -2
+                && smallResults.getPropertyAccess("grade").getInt(small) == 'A'
+                && smallResults.getPropertyAccess("ratio").getDouble(small) == 1.5D, "widening accessor failed!");
+        // 需要基础类型拓宽时回退到反射
+        results.getPropertyAccess("total").setValue(primitives, 5);
+        Assert.isTrue(primitives.getTotal() == 5L, "widening fallback failed!");
+        try {
+            results.getPropertyAccess("count").setValue(primitives, null);
+            Assert.isTrue(false, "null primitive accepted, failed!");
+        } catch (IllegalArgumentException e) {
+            Assert.isTrue(primitives.getCount() == 3, "null primitive fallback failed!");
+        }
+
+        HiddenBean hidden = new HiddenBean();
+        PropertyAccess name = CachedIntrospectionResults.forClass(HiddenBean.class).getPropertyAccess("name");
+        name.setValue(hidden, "zhangsan");
+        Assert.isTrue("zhangsan".equals(name.getValue(hidden)), "non-public accessor failed!");
+
+        try {
+            results.getPropertyAccess("broken").getValue(primitives);
+            Assert.isTrue(false, "getter exception swallowed, failed!");
+        } catch (BeansException e) {
+            Assert.isTrue(e.getCause() instanceof IllegalStateException, "getter exception failed!");
+        }
+        try {
+            results.getPropertyAccess("broken").setValue(primitives, "a");
+            Assert.isTrue(false, "setter exception swallowed, failed!");
+        } catch (BeansException e) {
+            Assert.isTrue(e.getMessage().contains("broken"), "setter exception failed!");
+        }
+        try {
+            CachedIntrospectionResults.forClass(HiddenBean.class).getPropertyAccess("fatal").getValue(hidden);
+            Assert.isTrue(false, "error swallowed, failed!");
+        } catch (StackOverflowError e) {
+            System.out.println(e.getMessage());
+        }
+        Primitives copy = new Primitives();
+        Beans.copyProperties(primitives, copy);
+        Assert.isTrue(copy.getTotal() == 5L, "copy with broken property failed!");
+    }
+
+    public static class AccessBean {
+        @PropertyInfo(access = Access.READ_ONLY)
+        private String code;
+        @PropertyInfo(access = Access.WRITE_ONLY)
+        private String secret;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+
+    @Test
+    public void testPropertyAccessMode() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("code", "a");
+        map.put("secret", "b");
+        AccessBean bean = Beans.cast(map, AccessBean.class);
+        Assert.isTrue(bean.getCode() == null && "b".equals(bean.getSecret()), "write access failed!");
+        bean.setCode("c");
+        Map<?, ?> target = Beans.cast(bean, Map.class);
+        Assert.isTrue("c".equals(target.get("code")) && !target.containsKey("secret"), "read access failed!");
+    }
+
+    @Test
+    public void testGeneratedConverter() throws ConversionException, JsonException {
+        Converter<Order, OrderDTO> generated = SpecificConverters.getConverter(Order.class, OrderDTO.class);
+        Assert.notNull(generated, "converter not generated, failed!");
+        Assert.isTrue(ConverterEngine.getDefault().getSpecificConverters().getCandidates(Order.class, OrderDTO.class)
+                .get(0).getClass().getName().contains("OrderConverters"), "generated converter not loaded, failed!");
+        Item item = new Item();
+        item.setName("apple");
+        item.setQuantity(2);
+        Order order = new Order();
+        order.setId(1L);
+        order.setCount(3);
+        order.setAmount("12.50");
+        order.setBuyer("zhangsan");
+        order.setPassword("secret");
+        order.setStatus("PAID");
+        order.setFirst(item);
+        order.setItems(Arrays.asList(item, new Item()));
+
+        OrderDTO compiled = generated.convert(order);
+        OrderDTO reflective = Beans.cast(order, OrderDTO.class);
+        System.out.println(Jsons.toJsonString(compiled));
+        Assert.isTrue(Jsons.toJsonString(compiled).equals(Jsons.toJsonString(reflective)),
+                "generated and reflective conversion differ, failed!");
+        Assert.isTrue("zhangsan".equals(compiled.getCustomer()) && compiled.getPassword() == null
+                && compiled.getStatus() == null && new BigDecimal("12.50").equals(compiled.getAmount())
+                && compiled.getCount() == 3L, "generated property rule failed!");
+        Assert.isTrue("2".equals(compiled.getFirst().getQuantity()) && compiled.getItems().size() == 2,
+                "generated nested conversion failed!");
+
+        Converter<Item, ItemDTO> itemConverter = SpecificConverters.getConverter(Item.class, ItemDTO.class);
+        Assert.isTrue(Jsons.toJsonString(itemConverter.convert(item))
+                .equals(Jsons.toJsonString(Beans.cast(item, ItemDTO.class))), "generated item conversion failed!");
+
+        // 读写方法选择与运行时一致：isX 优先，写方法与读方法类型兼容
+        Flag flag = new Flag();
+        flag.setActive(true);
+        FlagDTO compiledFlag = SpecificConverters.getConverter(Flag.class, FlagDTO.class).convert(flag);
+        FlagDTO reflectiveFlag = Beans.cast(flag, FlagDTO.class);
+        Assert.isTrue(compiledFlag.isActive() && "boolean".equals(compiledFlag.getSetter())
+                && Jsons.toJsonString(compiledFlag).equals(Jsons.toJsonString(reflectiveFlag)),
+                "generated accessor selection differs, failed!");
+    }
+
+    public static class ScoreHolder {
+        private Score score;
+
+        public Score getScore() {
+            return score;
+        }
+
+        public void setScore(Score score) {
+            this.score = score;
+        }
+    }
+
+    public static class StudentHolder {
+        private Student score;
+
+        public Student getScore() {
+            return score;
+        }
+
+        public void setScore(Student score) {
+            this.score = score;
+        }
+    }
+
+    public static class Score2StudentConverter implements SpecificConverter<Score, Student> {
+        @Override
+        public Student convert(Score source) {
+            Student student = new Student();
+            student.setName("specific:" + source.getAge());
+            return student;
+        }
+    }
+
+    @Test
+    public void testNestedPrefersSpecificConverter() {
+        ScoreHolder holder = new ScoreHolder();
+        holder.setScore(new Score());
+        holder.getScore().setAge(18);
+        ConverterEngine engine = new ConverterEngine();
+        Assert.isTrue(engine.execute(() -> Beans.cast(holder, StudentHolder.class)).getScore().getName() == null,
+                "reflective nested conversion failed!");
+        engine.getSpecificConverters().registerSpecificConverter(new Score2StudentConverter());
+        StudentHolder target = engine.execute(() -> Beans.cast(holder, StudentHolder.class));
+        Assert.isTrue("specific:18".equals(target.getScore().getName()), "specific converter not preferred, failed!");
+    }
+}
@@ -0,0 +1,24 @@
+package com.sprint.common.converter.test.bean;
+
+/**
+ * getX 与 isX 并存，运行时优先 isX
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public class Flag {
+
+    private boolean active;
+
+    public boolean getActive() {
+        return !active;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
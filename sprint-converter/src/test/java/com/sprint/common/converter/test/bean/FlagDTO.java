@@ -0,0 +1,31 @@
+package com.sprint.common.converter.test.bean;
+
+/**
+ * 重载写方法，运行时取与读方法类型兼容的写方法
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public class FlagDTO {
+
+    private boolean active;
+    private String setter;
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(String active) {
+        this.active = Boolean.parseBoolean(active);
+        this.setter = "String";
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+        this.setter = "boolean";
+    }
+
+    public String getSetter() {
+        return setter;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sprint.common.converter.test.bean;
+
+/**
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public class Item {
+
+    private String name;
+    private int quantity;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
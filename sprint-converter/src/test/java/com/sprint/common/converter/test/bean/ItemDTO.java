@@ -0,0 +1,27 @@
+package com.sprint.common.converter.test.bean;
+
+/**
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public class ItemDTO {
+
+    private String name;
+    private String quantity;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(String quantity) {
+        this.quantity = quantity;
+    }
+}
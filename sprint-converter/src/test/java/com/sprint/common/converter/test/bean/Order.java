@@ -0,0 +1,88 @@
+package com.sprint.common.converter.test.bean;
+
+import com.sprint.common.converter.conversion.nested.bean.Access;
+import com.sprint.common.converter.conversion.nested.bean.annotation.PropertyInfo;
+
+import java.util.List;
+
+/**
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public class Order {
+
+    private Long id;
+    private int count;
+    private String amount;
+    @PropertyInfo("customer")
+    private String buyer;
+    @PropertyInfo(access = Access.WRITE_ONLY)
+    private String password;
+    private String status;
+    private Item first;
+    private List<Item> items;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public String getAmount() {
+        return amount;
+    }
+
+    public void setAmount(String amount) {
+        this.amount = amount;
+    }
+
+    public String getBuyer() {
+        return buyer;
+    }
+
+    public void setBuyer(String buyer) {
+        this.buyer = buyer;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Item getFirst() {
+        return first;
+    }
+
+    public void setFirst(Item first) {
+        this.first = first;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+}
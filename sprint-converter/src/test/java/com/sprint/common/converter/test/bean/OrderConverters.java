@@ -0,0 +1,15 @@
+package com.sprint.common.converter.test.bean;
+
+import com.sprint.common.converter.conversion.specific.annotation.GenerateConverter;
+
+/**
+ * 编译期生成的转换器，与反射转换结果对比
+ *
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+@GenerateConverter(source = Order.class, target = OrderDTO.class)
+@GenerateConverter(source = Item.class, target = ItemDTO.class)
+@GenerateConverter(source = Flag.class, target = FlagDTO.class)
+public interface OrderConverters {
+}
@@ -0,0 +1,88 @@
+package com.sprint.common.converter.test.bean;
+
+import com.sprint.common.converter.conversion.nested.bean.Access;
+import com.sprint.common.converter.conversion.nested.bean.annotation.PropertyInfo;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * @author hongfeng.li
+ * @since 2022/8/2
+ */
+public class OrderDTO {
+
+    private Long id;
+    private long count;
+    private BigDecimal amount;
+    private String customer;
+    private String password;
+    @PropertyInfo(access = Access.READ_ONLY)
+    private String status;
+    private ItemDTO first;
+    private List<ItemDTO> items;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public ItemDTO getFirst() {
+        return first;
+    }
+
+    public void setFirst(ItemDTO first) {
+        this.first = first;
+    }
+
+    public List<ItemDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemDTO> items) {
+        this.items = items;
+    }
+}